@@ -0,0 +1,58 @@
+package gminers.glasspane.jmh;
+
+
+import gminers.glasspane.event.PaneComponentPreRenderEvent;
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.listener.EventFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Creating an event through it's cached {@link EventFactory}, against looking up it's SIGNATURE and constructor every time like fireEvent
+ * used to. Pre-render events are the ones fired the most - every component, every frame - so that's what gets created.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EventFactoryBenchmark {
+	private final Class<PaneComponentPreRenderEvent> eventClass = PaneComponentPreRenderEvent.class;
+	// the source isn't looked at by anything here, so it can be left out
+	private final Object[] constructorArgs = {
+			null,
+			10,
+			20,
+			0.5f
+	};
+	
+	@Setup
+	public void setup() {
+		// components register the events they listen for up front, so the factory is always resolved before the first fire
+		EventFactory.of(eventClass);
+	}
+	
+	@Benchmark
+	public PaneEvent factory() {
+		return EventFactory.of(eventClass).create(constructorArgs);
+	}
+	
+	@Benchmark
+	public PaneEvent reflective() throws Exception {
+		final Class<?>[] constructorTypes = (Class<?>[]) eventClass.getField("SIGNATURE").get(null);
+		return eventClass.getConstructor(constructorTypes).newInstance(constructorArgs);
+	}
+}
@@ -0,0 +1,189 @@
+package gminers.glasspane.processor;
+
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+
+/**
+ * Generates a <code>ListenerRegistrar</code> for every class in the compilation that has public <code>@PaneEventHandler</code> methods,
+ * whether declared or inherited. The registrar's invokers call the handlers directly, so Glass Pane doesn't have to find or invoke them
+ * through reflection.<br/>
+ * Classes that can't be referenced from a generated class in their own package (private or anonymous classes), and abstract classes, are
+ * skipped, and fall back to the reflective path at runtime.
+ */
+@SupportedAnnotationTypes("*")
+public class PaneListenerProcessor
+		extends AbstractProcessor {
+	private static final String HANDLER = "gminers.glasspane.listener.PaneEventHandler";
+	private static final String EVENT = "gminers.glasspane.event.PaneEvent";
+	private static final String LISTENER_METHOD = "gminers.glasspane.listener.ListenerMethod";
+	private static final String INVOKER = "gminers.glasspane.listener.EventInvoker";
+	private static final String REGISTRAR = "gminers.glasspane.listener.ListenerRegistrar";
+	private static final String SUFFIX = "$$PaneListeners";
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		final TypeElement handler = processingEnv.getElementUtils().getTypeElement(HANDLER);
+		final TypeElement event = processingEnv.getElementUtils().getTypeElement(EVENT);
+		if (handler == null || event == null) return false; // glass pane isn't on the classpath, nothing to do
+		for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(type, handler, event.asType());
+		}
+		// we don't claim any annotations, so other processors (lombok) still see everything
+		return false;
+	}
+	
+	private void processType(final TypeElement type, final TypeElement handler, final TypeMirror event) {
+		// nested classes can be listeners too
+		for (final TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			processType(nested, handler, event);
+		}
+		if (type.getKind() != ElementKind.CLASS || !isReferenceable(type)
+				|| type.getModifiers().contains(Modifier.ABSTRACT)) return;
+		final List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(
+				type));
+		final StringBuilder entries = new StringBuilder();
+		for (final ExecutableElement m : methods) {
+			final AnnotationMirror annotation = findAnnotation(m, handler);
+			if (annotation == null || !m.getModifiers().contains(Modifier.PUBLIC)
+					|| m.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			if (m.getParameters().size() != 1) {
+				processingEnv.getMessager().printMessage(Kind.WARNING,
+						"@PaneEventHandler method must have exactly one parameter, it will be ignored", m);
+				continue;
+			}
+			final TypeMirror param = processingEnv.getTypeUtils().erasure(m.getParameters().get(0).asType());
+			if (!processingEnv.getTypeUtils().isAssignable(param, event)) {
+				processingEnv.getMessager().printMessage(Kind.WARNING,
+						"@PaneEventHandler method's parameter is not a PaneEvent, it will be ignored", m);
+				continue;
+			}
+			appendEntry(entries, type, m, param.toString(), annotation);
+		}
+		if (entries.length() == 0) return;
+		write(type, entries);
+	}
+	
+	private void appendEntry(final StringBuilder out, final TypeElement type, final ExecutableElement m,
+			final String eventType, final AnnotationMirror annotation) {
+		final String target = rawName(type);
+		out.append("\t\t\tnew ").append(LISTENER_METHOD).append("(").append(target).append(".class, \"")
+				.append(m.getSimpleName()).append("\", ").append(eventType).append(".class, ")
+				.append(value(annotation, "ignoreConsumed")).append(", ").append(value(annotation, "capture"))
+				.append(", ").append(value(annotation, "priority")).append(", ")
+				.append(value(annotation, "throttleTicks")).append(", ").append(value(annotation, "debounceTicks"))
+				.append(", ").append(value(annotation, "coalesce")).append(",\n");
+		out.append("\t\t\t\t\tnew ").append(INVOKER).append("() {\n");
+		out.append("\t\t\t\t\t\t@Override\n");
+		out.append("\t\t\t\t\t\tpublic void invoke(Object listener, ").append(EVENT)
+				.append(" event) throws Throwable {\n");
+		out.append("\t\t\t\t\t\t\t((").append(target).append(") listener).").append(m.getSimpleName()).append("((")
+				.append(eventType).append(") event);\n");
+		out.append("\t\t\t\t\t\t}\n");
+		out.append("\t\t\t\t\t}),\n");
+	}
+	
+	private void write(final TypeElement type, final StringBuilder entries) {
+		final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+		final String binary = processingEnv.getElementUtils().getBinaryName(type).toString();
+		final String simple = (pkg.isUnnamed() ? binary : binary.substring(pkg.getQualifiedName().length() + 1)) + SUFFIX;
+		final String qualified = pkg.isUnnamed() ? simple : pkg.getQualifiedName() + "." + simple;
+		try {
+			final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualified, type);
+			final PrintWriter w = new PrintWriter(file.openWriter());
+			try {
+				if (!pkg.isUnnamed()) {
+					w.println("package " + pkg.getQualifiedName() + ";");
+					w.println();
+				}
+				w.println("/**");
+				w.println(" * Generated by the Glass Pane listener processor. Do not edit.");
+				w.println(" */");
+				w.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+				w.println("public final class " + simple + " implements " + REGISTRAR + " {");
+				w.println("\t@Override");
+				w.println("\tpublic " + LISTENER_METHOD + "[] getListenerMethods() {");
+				w.println("\t\treturn new " + LISTENER_METHOD + "[] {");
+				w.print(entries);
+				w.println("\t\t};");
+				w.println("\t}");
+				w.println("}");
+			} finally {
+				w.close();
+			}
+		} catch (final IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Could not write listener registrar " + qualified + ": " + e.getMessage(), type);
+		}
+	}
+	
+	private AnnotationMirror findAnnotation(final Element e, final TypeElement annotation) {
+		for (final AnnotationMirror mirror : e.getAnnotationMirrors()) {
+			if (processingEnv.getTypeUtils().isSameType(mirror.getAnnotationType(), annotation.asType())) return mirror;
+		}
+		return null;
+	}
+	
+	private String value(final AnnotationMirror annotation, final String name) {
+		final Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils()
+				.getElementValuesWithDefaults(annotation);
+		for (final Entry<? extends ExecutableElement, ? extends AnnotationValue> en : values.entrySet()) {
+			if (en.getKey().getSimpleName().contentEquals(name)) {
+				final Object v = en.getValue().getValue();
+				if (v instanceof VariableElement) {
+					// enum constant
+					final VariableElement constant = (VariableElement) v;
+					return rawName((TypeElement) constant.getEnclosingElement()) + "." + constant.getSimpleName();
+				}
+				return String.valueOf(v);
+			}
+		}
+		throw new IllegalArgumentException("@PaneEventHandler has no element named " + name);
+	}
+	
+	private static String rawName(final TypeElement type) {
+		return type.getQualifiedName().toString();
+	}
+	
+	private static boolean isReferenceable(final TypeElement type) {
+		Element work = type;
+		while (work instanceof TypeElement) {
+			final TypeElement t = (TypeElement) work;
+			if (t.getNestingKind() == NestingKind.ANONYMOUS || t.getNestingKind() == NestingKind.LOCAL
+					|| t.getModifiers().contains(Modifier.PRIVATE)) return false;
+			work = t.getEnclosingElement();
+		}
+		return true;
+	}
+}
@@ -4,19 +4,18 @@ package com.gameminers.glasspane.internal;
 import gminers.glasspane.GlassPane;
 import gminers.glasspane.GlassPaneMirror;
 import gminers.glasspane.ease.PaneEaser;
-import gminers.glasspane.event.KeyTypedEvent;
-import gminers.glasspane.event.MouseDownEvent;
-import gminers.glasspane.event.MouseUpEvent;
-import gminers.glasspane.event.MouseWheelEvent;
 import gminers.glasspane.event.PaneDisplayEvent;
 import gminers.glasspane.event.PaneOverrideEvent;
+import gminers.glasspane.exception.ErrorReporter;
 import gminers.glasspane.exception.PaneCantContinueError;
+import gminers.glasspane.listener.EventClock;
+import gminers.glasspane.render.BatchingPaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -41,6 +40,7 @@ import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 
 
@@ -65,7 +65,8 @@ public class GlassPaneMod {
 	
 	public final List<Class<?>> overrideExemptions = Lists.newCopyOnWriteArrayList();
 	
-	public static Map<Object, PaneEaser> easers = Collections.synchronizedMap(new HashMap<Object, PaneEaser>());
+	// weak keys, so an easer never keeps the object it's easing alive. easers only hold their object strongly while they're easing it
+	public static Map<Object, PaneEaser> easers = new MapMaker().weakKeys().makeMap();
 	
 	public static boolean invertMouseCoordinates = false;
 	
@@ -225,18 +226,21 @@ public class GlassPaneMod {
 	public void onTick(final TickEvent.ClientTickEvent e) {
 		// tick the easers
 		Minecraft.getMinecraft().mcProfiler.startSection("paneEaser");
-		for (PaneEaser pe : GlassPaneMod.easers.values().toArray(new PaneEaser[GlassPaneMod.easers.size()])) {
+		for (PaneEaser pe : GlassPaneMod.easers.values().toArray(new PaneEaser[0])) {
 			Minecraft.getMinecraft().mcProfiler.startSection(Integer.toHexString(pe.hashCode()));
 			try {
 				pe.onTick(e.phase);
 			} catch (Throwable t) {
-				t.printStackTrace();
-				System.out.println("Exception while ticking easer " + Integer.toHexString(pe.hashCode()));
+				// a broken easer would otherwise print a stack trace every tick until it's closed
+				if (ErrorReporter.report(pe, "Easer", "Exception while ticking easer " + Integer.toHexString(pe.hashCode()), t)) {
+					pe.close();
+				}
 			}
 			Minecraft.getMinecraft().mcProfiler.endSection();
 		}
 		Minecraft.getMinecraft().mcProfiler.endSection();
 		if (e.phase == TickEvent.Phase.START) {
+			EventClock.advance();
 			// this is a terrible, terrible hack, but there's no better way to do it
 			// Mouse and Keyboard InputEvents are only called when in a game, not a GUI, which is the opposite of helpful
 			// so we do this awful hack
@@ -266,16 +270,16 @@ public class GlassPaneMod {
 						if (mc.gameSettings.touchscreen && touchScreenCounter++ > 0) return;
 						
 						for (final GlassPane pane : combine(currentOverlays, currentStickyOverlays)) {
-							pane.fireEvent(MouseDownEvent.class, pane, mX, mY, button);
+							pane.fireMouseDown(mX, mY, button);
 						}
 					} else if (button != -1) {
 						if (mc.gameSettings.touchscreen && --touchScreenCounter > 0) return;
 						if (mc.currentScreen instanceof GlassPaneMirror) {
 							final GlassPane pane = ((GlassPaneMirror) mc.currentScreen).getMirrored();
-							pane.fireEvent(MouseUpEvent.class, pane, mX, mY, button);
+							pane.fireMouseUp(mX, mY, button);
 						}
 						for (final GlassPane pane : combine(currentOverlays, currentStickyOverlays)) {
-							pane.fireEvent(MouseUpEvent.class, pane, mX, mY, button);
+							pane.fireMouseUp(mX, mY, button);
 						}
 					}
 				}
@@ -286,10 +290,10 @@ public class GlassPaneMod {
 						final int mY = height - Mouse.getY() * height / mc.displayHeight - 1;
 						if (mc.currentScreen instanceof GlassPaneMirror) {
 							final GlassPane pane = ((GlassPaneMirror) mc.currentScreen).getMirrored();
-							pane.fireEvent(MouseWheelEvent.class, pane, mX, mY, wheel);
+							pane.fireMouseWheel(mX, mY, wheel);
 						}
 						for (final GlassPane pane : combine(currentOverlays, currentStickyOverlays)) {
-							pane.fireEvent(MouseWheelEvent.class, pane, mX, mY, wheel);
+							pane.fireMouseWheel(mX, mY, wheel);
 						}
 						mouseDWheel.set(null, wheel);
 					}
@@ -306,7 +310,7 @@ public class GlassPaneMod {
 						final char kChar = Keyboard.getEventCharacter();
 						
 						for (final GlassPane pane : combine(currentOverlays, currentStickyOverlays)) {
-							pane.fireEvent(KeyTypedEvent.class, pane, kChar, kCode);
+							pane.fireKeyTyped(kChar, kCode);
 						}
 					}
 				}
@@ -344,7 +348,12 @@ public class GlassPaneMod {
 	
 	@SubscribeEvent
 	public void onRender(final TickEvent.RenderTickEvent e) {
-		if (e.phase == TickEvent.Phase.END) {
+		if (e.phase == TickEvent.Phase.START) {
+			// the renderer's counters are per frame
+			if (RenderBackend.getRenderer() instanceof BatchingPaneRenderer) {
+				((BatchingPaneRenderer) RenderBackend.getRenderer()).resetCounters();
+			}
+		} else if (e.phase == TickEvent.Phase.END) {
 			final Minecraft mc = Minecraft.getMinecraft();
 			final ScaledResolution res = new ScaledResolution(mc, mc.displayWidth, mc.displayHeight);
 			// just render all the overlays in insertion order
@@ -361,7 +370,7 @@ public class GlassPaneMod {
 					mouseX = res.getScaledWidth() - mouseX;
 					mouseY = res.getScaledHeight() - mouseY;
 				}
-				pane.render(mouseX, mouseY, e.renderTickTime);
+				pane.renderOverlay(mouseX, mouseY, e.renderTickTime);
 			}
 		}
 	}
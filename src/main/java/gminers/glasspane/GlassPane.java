@@ -2,11 +2,11 @@ package gminers.glasspane;
 
 
 import gminers.glasspane.component.PaneContainer;
-import gminers.glasspane.event.KeyTypedEvent;
-import gminers.glasspane.event.MouseDownEvent;
 import gminers.glasspane.event.PaneDisplayEvent;
 import gminers.glasspane.event.PaneHideEvent;
 import gminers.glasspane.event.PaneOverlayEvent;
+import gminers.glasspane.listener.EventClock;
+import gminers.glasspane.render.FramebufferCache;
 import gminers.glasspane.shadowbox.AdaptivePanoramaShadowbox;
 import gminers.glasspane.shadowbox.ImageTileShadowbox;
 import gminers.glasspane.shadowbox.PaneShadowbox;
@@ -80,6 +80,21 @@ public abstract class GlassPane
 	 * Whether or not this GlassPane will render when the HUD is disabled. (Only applies if this GlassPane is displayed over a GuiIngame)
 	 */
 	@Getter @Setter protected boolean renderedWhenHUDIsOff = false;
+	/**
+	 * The most times per second this GlassPane will actually be drawn when it's displayed as an overlay. In between, what it looked like
+	 * last time is drawn from a framebuffer, which is a lot cheaper for big HUDs. It's only drawn again when something in it was
+	 * {@link #markDirty() marked dirty} or anything in it {@link #setRenderLive(boolean) renders live}, and even then no more often than
+	 * this. The window or GUI scale changing is the exception, and redraws it right away.<br/>
+	 * 0 (the default) draws it every frame, like any other overlay. Does nothing if the graphics card doesn't support framebuffers.
+	 */
+	@Getter @Setter protected int overlayRefreshRate = 0;
+	private FramebufferCache overlayCache = null;
+	private boolean overlayDirty = true;
+	private long lastOverlayRefresh = 0;
+	// what the overlay's ScaledResolution was made from, so it's only made again when one of them changes
+	private ScaledResolution overlayRes = null;
+	private int overlayDisplayWidth, overlayDisplayHeight, overlayGuiScale;
+	private boolean overlayUnicode;
 	
 	/**
 	 * Overrides the currently displaying GuiScreen with a screen dedicated to displaying this GlassPane, and stores the current GUI state
@@ -163,6 +178,60 @@ public abstract class GlassPane
 		Minecraft.getMinecraft().displayGuiScreen(getScreenMirror());
 	}
 	
+	/**
+	 * Renders this GlassPane as an overlay, from it's framebuffer if it has an {@link #overlayRefreshRate} and doesn't need to be drawn
+	 * again yet. Called by Glass Pane for every overlay, every frame.
+	 */
+	public void renderOverlay(final int mouseX, final int mouseY, final float partialTicks) {
+		if (overlayRefreshRate <= 0 || !FramebufferCache.isSupported()) {
+			if (overlayCache != null) {
+				overlayCache.free();
+				overlayCache = null;
+			}
+			render(mouseX, mouseY, partialTicks);
+			return;
+		}
+		if (overlayCache == null) {
+			overlayCache = new FramebufferCache();
+		}
+		final Minecraft mc = Minecraft.getMinecraft();
+		// a resize or GUI scale change puts everything in different pixels, so that can't wait for the refresh rate
+		boolean redraw = !overlayCache.isValid();
+		// unicode fonts force an even scale, so they count too
+		if (overlayRes == null || mc.displayWidth != overlayDisplayWidth || mc.displayHeight != overlayDisplayHeight
+				|| mc.gameSettings.guiScale != overlayGuiScale || mc.isUnicode() != overlayUnicode) {
+			overlayRes = new ScaledResolution(mc, mc.displayWidth, mc.displayHeight);
+			overlayDisplayWidth = mc.displayWidth;
+			overlayDisplayHeight = mc.displayHeight;
+			overlayGuiScale = mc.gameSettings.guiScale;
+			overlayUnicode = mc.isUnicode();
+			redraw = true;
+		}
+		final long now = System.nanoTime();
+		// anything else waits until it's been long enough, no matter how often it's marked dirty
+		if (!redraw && (overlayDirty || isLiveSubtree()) && now - lastOverlayRefresh >= 1000000000L / overlayRefreshRate) {
+			redraw = true;
+		}
+		final ScaledResolution res = overlayRes;
+		if (redraw) {
+			overlayDirty = false;
+			lastOverlayRefresh = now;
+			overlayCache.begin();
+			try {
+				render(mouseX, mouseY, partialTicks);
+			} finally {
+				overlayCache.end();
+			}
+		}
+		overlayCache.draw(res.getScaledWidth(), res.getScaledHeight());
+	}
+	
+	@Override
+	protected void markCacheDirty() {
+		super.markCacheDirty();
+		overlayDirty = true;
+	}
+	
 	/**
 	 * Returns <code>this</code> - overridden for efficiency
 	 */
@@ -199,6 +268,8 @@ public abstract class GlassPane
 				throw new IllegalStateException("Minecraft is initialized!");
 			// tick if we should
 			if (System.currentTimeMillis() - lastTick >= 50) {
+				// forge isn't ticking yet, so we have to keep the clock going ourselves
+				EventClock.advance();
 				if (Mouse.isCreated()) {
 					while (Mouse.next()) {
 						final int mX = Mouse.getEventX() * width / mc.displayWidth;
@@ -214,7 +285,7 @@ public abstract class GlassPane
 						
 						if (Mouse.getEventButtonState()) {
 							
-							fireEvent(MouseDownEvent.class, this, mX, mY, button);
+							fireMouseDown(mX, mY, button);
 						}
 					}
 				}
@@ -225,7 +296,7 @@ public abstract class GlassPane
 							final int kCode = Keyboard.getEventKey();
 							final char kChar = Keyboard.getEventCharacter();
 							
-							fireEvent(KeyTypedEvent.class, this, kChar, kCode);
+							fireKeyTyped(kChar, kCode);
 						}
 					}
 				}
@@ -347,7 +418,8 @@ public abstract class GlassPane
 		if (takingOver || GlassPaneMod.inst.currentOverlays.remove(this)
 				|| GlassPaneMod.inst.currentStickyOverlays.remove(this)) {
 			fireEvent(PaneHideEvent.class, this);
-			focusedComponent = null;
+			unregisterEphemeralListeners();
+			setFocusedComponent(null);
 		}
 		takingOver = false;
 	}
@@ -2,7 +2,6 @@ package gminers.glasspane;
 
 
 import gminers.glasspane.event.KeyTypedEvent;
-import gminers.glasspane.event.MouseDownEvent;
 import gminers.glasspane.event.PaneDisplayEvent;
 import gminers.glasspane.event.PaneHideEvent;
 import gminers.kitchensink.Rendering;
@@ -105,7 +104,7 @@ public final class GlassPaneMirror
 	
 	@Override
 	protected void keyTyped(final char keyChar, final int keyCode) {
-		final KeyTypedEvent e = mirrored.fireEvent(KeyTypedEvent.class, mirrored, keyChar, keyCode);
+		final KeyTypedEvent e = mirrored.fireKeyTyped(keyChar, keyCode);
 		if (e != null) {
 			if (e.isConsumed()) return;
 		}
@@ -120,13 +119,14 @@ public final class GlassPaneMirror
 			mouseX = width - mouseX;
 			mouseY = height - mouseY;
 		}
-		mirrored.fireEvent(MouseDownEvent.class, mirrored, mouseX, mouseY, button);
+		mirrored.fireMouseDown(mouseX, mouseY, button);
 	}
 	
 	@Override
 	public void onGuiClosed() {
 		shown = false;
 		mirrored.fireEvent(PaneHideEvent.class, mirrored);
+		mirrored.unregisterEphemeralListeners();
 		mirrored.setFocusedComponent(null);
 	}
 	
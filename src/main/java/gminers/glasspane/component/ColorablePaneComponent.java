@@ -28,6 +28,12 @@ public abstract class ColorablePaneComponent
 	 */
 	public void invertColor() {
 		color = (~color & 0xFFFFFF) | (color & 0xFF000000);
+		markDirty();
+	}
+	
+	public void setColor(final int color) {
+		this.color = color;
+		markDirty();
 	}
 	
 }
@@ -0,0 +1,282 @@
+package gminers.glasspane.component;
+
+
+import gminers.glasspane.event.KeyTypedEvent;
+import gminers.glasspane.event.MouseDownEvent;
+import gminers.glasspane.event.MouseUpEvent;
+import gminers.glasspane.event.MouseWheelEvent;
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.event.PropagationPhase;
+
+import java.util.Arrays;
+
+
+/**
+ * The chain of components an input event travels through, from the component it was fired on down to it's target. Computed once per input
+ * event, and then walked in three phases: capture (root to the target's parent), target, and bubble (the target's parent back to the
+ * root).<br/>
+ * Every component on the path gets it's own event object, with itself as the source and coordinates relative to it's parent, just like
+ * when containers re-fired events to their children. The coordinates have the component's own translation and rotation undone, so they
+ * line up with it's bounds. Consuming or stopping propagation of any of them carries over to the rest of the
+ * walk.
+ */
+final class HitPath {
+	private static final int MOUSE_DOWN = 0;
+	private static final int MOUSE_UP = 1;
+	private static final int MOUSE_WHEEL = 2;
+	private static final int KEY_TYPED = 3;
+	
+	// input is only ever fired on the render thread, so one path does for almost everything
+	private static final HitPath shared = new HitPath();
+	
+	private PaneComponent[] components = new PaneComponent[8];
+	private int[] xs = new int[8];
+	private int[] ys = new int[8];
+	private int size = 0;
+	private boolean consumed = false;
+	private boolean stopped = false;
+	private boolean inUse = false;
+	
+	private HitPath() {}
+	
+	/**
+	 * @return The shared path, or a new one if the shared one is busy - like when a listener fires another event while it's handling
+	 *         one.
+	 */
+	private static HitPath obtain() {
+		final HitPath path = shared.inUse ? new HitPath() : shared;
+		path.inUse = true;
+		return path;
+	}
+	
+	/**
+	 * Empties this path out once an event is done with it, so it can be used again, and doesn't keep any components around.
+	 */
+	private void release() {
+		Arrays.fill(components, null);
+		size = 0;
+		consumed = false;
+		stopped = false;
+		inUse = false;
+	}
+	
+	/**
+	 * Builds the path to the topmost visible component under the passed point.
+	 */
+	static HitPath under(final PaneComponent root, final int mouseX, final int mouseY) {
+		final HitPath path = obtain();
+		try {
+			path.buildUnder(root, mouseX, mouseY);
+		} catch (final RuntimeException e) {
+			// nothing's going to fire this path, so it has to be let go of here
+			path.release();
+			throw e;
+		}
+		return path;
+	}
+	
+	private void buildUnder(final PaneComponent root, int mouseX, int mouseY) {
+		final int rootX = root.untransformX(mouseX, mouseY);
+		final int rootY = root.untransformY(mouseX, mouseY);
+		mouseX = rootX;
+		mouseY = rootY;
+		push(root, mouseX, mouseY);
+		// invisible containers don't pass anything along to their children
+		if (!root.isVisible()) return;
+		PaneComponent work = root;
+		while (work instanceof PaneContainer) {
+			final PaneContainer container = (PaneContainer) work;
+			mouseX -= container.getPX();
+			mouseY -= container.getPY();
+			work = container.getComponentAt(mouseX, mouseY);
+			if (work == null) {
+				break;
+			}
+			// the hit test went through the child's translation and rotation, so the coordinates it gets have to as well
+			final int childX = work.untransformX(mouseX, mouseY);
+			final int childY = work.untransformY(mouseX, mouseY);
+			mouseX = childX;
+			mouseY = childY;
+			push(work, mouseX, mouseY);
+		}
+	}
+	
+	/**
+	 * Builds the path down the focus chain. Containers with nothing focused pass it to the component the mouse is over instead.
+	 */
+	static HitPath focused(final PaneComponent root) {
+		final HitPath path = obtain();
+		try {
+			path.buildFocused(root);
+		} catch (final RuntimeException e) {
+			path.release();
+			throw e;
+		}
+		return path;
+	}
+	
+	private void buildFocused(final PaneComponent root) {
+		push(root, root.mouseX, root.mouseY);
+		PaneComponent work = root;
+		while (work instanceof PaneContainer) {
+			final PaneContainer container = (PaneContainer) work;
+			work = container.focusedComponent;
+			if (work == null || !work.isVisible()) {
+				work = container.getComponentAt(container.mouseX - container.getPX(), container.mouseY - container.getPY());
+			}
+			if (work == null) {
+				break;
+			}
+			push(work, work.mouseX, work.mouseY);
+		}
+	}
+	
+	private void push(final PaneComponent c, final int mouseX, final int mouseY) {
+		if (size == components.length) {
+			components = Arrays.copyOf(components, size * 2);
+			xs = Arrays.copyOf(xs, size * 2);
+			ys = Arrays.copyOf(ys, size * 2);
+		}
+		components[size] = c;
+		xs[size] = mouseX;
+		ys[size] = mouseY;
+		size++;
+	}
+	
+	MouseDownEvent fireMouseDown(final int button) {
+		try {
+			return fireMouseDown0(button);
+		} finally {
+			release();
+		}
+	}
+	
+	private MouseDownEvent fireMouseDown0(final int button) {
+		capture(MOUSE_DOWN, button, '\0');
+		if (!stopped) {
+			// let every container on the path update it's focus before anyone hears about the click
+			for (int i = 0; i < size; i++) {
+				if (!(components[i] instanceof PaneContainer)) {
+					continue;
+				}
+				final PaneComponent clicked = i + 1 < size ? components[i + 1] : null;
+				if (!((PaneContainer) components[i]).clickFocus(clicked, button)) {
+					// the clicked component refused the focus, so the click stops here
+					size = i + 1;
+					break;
+				}
+			}
+		}
+		return (MouseDownEvent) targetAndBubble(MOUSE_DOWN, button, '\0');
+	}
+	
+	MouseUpEvent fireMouseUp(final int button) {
+		try {
+			capture(MOUSE_UP, button, '\0');
+			return (MouseUpEvent) targetAndBubble(MOUSE_UP, button, '\0');
+		} finally {
+			release();
+		}
+	}
+	
+	MouseWheelEvent fireMouseWheel(final int distance) {
+		try {
+			capture(MOUSE_WHEEL, distance, '\0');
+			return (MouseWheelEvent) targetAndBubble(MOUSE_WHEEL, distance, '\0');
+		} finally {
+			release();
+		}
+	}
+	
+	KeyTypedEvent fireKeyTyped(final char keyChar, final int keyCode) {
+		try {
+			capture(KEY_TYPED, keyCode, keyChar);
+			return (KeyTypedEvent) targetAndBubble(KEY_TYPED, keyCode, keyChar);
+		} finally {
+			release();
+		}
+	}
+	
+	private void capture(final int kind, final int value, final char keyChar) {
+		for (int i = 0; i < size - 1 && !stopped; i++) {
+			deliver(i, PropagationPhase.CAPTURE, kind, value, keyChar);
+		}
+	}
+	
+	/**
+	 * @return The event delivered to the root of the path, or <code>null</code> if the root wasn't listening or never got it.
+	 */
+	private PaneEvent targetAndBubble(final int kind, final int value, final char keyChar) {
+		PaneEvent rootEvent = null;
+		for (int i = size - 1; i >= 0 && !stopped; i--) {
+			final PaneEvent event = deliver(i, i == size - 1 ? PropagationPhase.TARGET : PropagationPhase.BUBBLE, kind, value,
+					keyChar);
+			if (i == 0) {
+				rootEvent = event;
+			}
+		}
+		return rootEvent;
+	}
+	
+	private PaneEvent deliver(final int i, final PropagationPhase phase, final int kind, final int value, final char keyChar) {
+		final PaneComponent c = components[i];
+		final int mouseX = xs[i];
+		final int mouseY = ys[i];
+		final Class<? extends PaneEvent> eventClass;
+		// the shortcuts are the component's own behavior, so they run along with the bubble handlers
+		switch (kind) {
+			case MOUSE_DOWN:
+				if (phase != PropagationPhase.CAPTURE) {
+					c.mouseDown(mouseX, mouseY, value);
+				}
+				eventClass = MouseDownEvent.class;
+				break;
+			case MOUSE_UP:
+				if (phase != PropagationPhase.CAPTURE) {
+					c.mouseUp(mouseX, mouseY, value);
+				}
+				eventClass = MouseUpEvent.class;
+				break;
+			case MOUSE_WHEEL:
+				if (phase != PropagationPhase.CAPTURE) {
+					c.mouseWheel(mouseX, mouseY, value);
+				}
+				eventClass = MouseWheelEvent.class;
+				break;
+			default:
+				if (phase != PropagationPhase.CAPTURE) {
+					c.keyPressed(keyChar, value);
+				}
+				eventClass = KeyTypedEvent.class;
+				break;
+		}
+		// same as fireEvent, don't create anything if nobody's listening
+		if (!c.isListeningForEvent(eventClass)) return null;
+		final PaneEvent event;
+		switch (kind) {
+			case MOUSE_DOWN:
+				event = new MouseDownEvent(c, mouseX, mouseY, value);
+				break;
+			case MOUSE_UP:
+				event = new MouseUpEvent(c, mouseX, mouseY, value);
+				break;
+			case MOUSE_WHEEL:
+				event = new MouseWheelEvent(c, mouseX, mouseY, value);
+				break;
+			default:
+				event = new KeyTypedEvent(c, keyChar, value);
+				break;
+		}
+		event.setPhase(phase);
+		if (consumed) {
+			event.consume();
+		}
+		if (!c.listeners.dispatch(eventClass, event)) {
+			stopped = true;
+			return null;
+		}
+		consumed |= event.isConsumed();
+		stopped |= event.isPropagationStopped();
+		return event;
+	}
+}
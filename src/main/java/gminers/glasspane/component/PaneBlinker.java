@@ -3,7 +3,8 @@ package gminers.glasspane.component;
 
 import gminers.glasspane.GlassPane;
 import gminers.glasspane.GlassPaneMirror;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import gminers.kitchensink.WaveType;
 import lombok.Getter;
 import lombok.Setter;
@@ -49,6 +50,7 @@ public class PaneBlinker
 	
 	public PaneBlinker() {
 		setColor(0xFF0000);
+		setRenderLive(true);
 	}
 	
 	@Override
@@ -83,17 +85,23 @@ public class PaneBlinker
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		if (blinking) {
 			final double wv = wave.calculate((tickCounter + partialTicks) / speed);
 			final int dist = (int)((float) (wv * distance));
 			final int col = color | (((int) ((1 - wv) * 255D) & 0xFF) << 24);
-			Rendering.drawRect(-dist, -dist, width + dist, (-dist) + 1, col);
-			Rendering.drawRect(-dist, (-dist) + 1, (-dist) + 1, height + dist, col);
-			Rendering.drawRect((-dist) + 1, height + dist, width + dist, (height + dist) - 1, col);
-			Rendering.drawRect(width + dist, (-dist) + 1, (width + dist) - 1, (height + dist) - 1, col);
+			pr.drawRect(-dist, -dist, width + dist, (-dist) + 1, col);
+			pr.drawRect(-dist, (-dist) + 1, (-dist) + 1, height + dist, col);
+			pr.drawRect((-dist) + 1, height + dist, width + dist, (height + dist) - 1, col);
+			pr.drawRect(width + dist, (-dist) + 1, (width + dist) - 1, (height + dist) - 1, col);
 		}
 	}
 	
+	@Override
+	protected int getOverdraw() {
+		return blinking ? distance + 1 : 0;
+	}
+	
 	/**
 	 * Sets the target of this PaneBlinker to the passed component. A targeted blinker will track the position and size of the given
 	 * component and mimic it as closely as possible to keep up with the component. If the component becomes orphaned or hidden, the blinker
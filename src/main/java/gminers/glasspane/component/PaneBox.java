@@ -1,7 +1,8 @@
 package gminers.glasspane.component;
 
 
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 
 /**
@@ -18,7 +19,8 @@ public class PaneBox
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
-		Rendering.drawRect(0, 0, width, height, color);
+		final PaneRenderer pr = RenderBackend.getRenderer();
+		pr.drawRect(0, 0, width, height, color);
 	}
 	
 }
@@ -8,6 +8,7 @@ import gminers.glasspane.PaneBB;
 import gminers.glasspane.component.button.PaneButton;
 import gminers.glasspane.event.ComponentActivateEvent;
 import gminers.glasspane.event.ComponentTickEvent;
+import gminers.glasspane.event.EventPool;
 import gminers.glasspane.event.KeyTypedEvent;
 import gminers.glasspane.event.MouseDownEvent;
 import gminers.glasspane.event.MouseUpEvent;
@@ -17,17 +18,22 @@ import gminers.glasspane.event.PaneComponentPreRenderEvent;
 import gminers.glasspane.event.PaneEvent;
 import gminers.glasspane.event.PaneEventListenerRegisterEvent;
 import gminers.glasspane.event.PaneEventListenerUnregisterEvent;
+import gminers.glasspane.event.PropagationPhase;
+import gminers.glasspane.event.RecyclableEvent;
 import gminers.glasspane.event.WinchEvent;
-import gminers.glasspane.exception.PaneCantContinueError;
+import gminers.glasspane.listener.EventFactory;
+import gminers.glasspane.listener.ListenerMethod;
+import gminers.glasspane.listener.ListenerMethods;
+import gminers.glasspane.listener.ListenerTable;
 import gminers.glasspane.listener.PaneEventHandler;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.listener.RegistrationMode;
+import gminers.glasspane.render.ClipStack;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -41,9 +47,7 @@ import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.util.ResourceLocation;
 
 import org.lwjgl.opengl.Display;
-import org.lwjgl.opengl.GL11;
 
-import com.gameminers.glasspane.internal.GlassPaneMod;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
@@ -58,7 +62,8 @@ import com.google.common.collect.Maps;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @ToString(exclude = {
 		"listeners",
-		"parent"
+		"parent",
+		"transform"
 })
 @Getter
 @Setter
@@ -68,7 +73,8 @@ public abstract class PaneComponent
 	
 	
 	/**
-	 * The Z index of this component. Components with higher Z indexes render in front of components with lower.
+	 * The Z index of this component. Components with higher Z indexes render in front of components with lower. Always change it with
+	 * {@link #setZIndex(int)}, or the parent won't know to sort it's children again.
 	 */
 	protected int zIndex = 0;
 	/**
@@ -101,13 +107,17 @@ public abstract class PaneComponent
 	 */
 	boolean visible = true;
 	/**
-	 * Whether or not to clip rendering of this component to it's bounding box.<br/>
+	 * Whether or not this component is drawn fresh every frame, even inside a container with cacheRendering on. Components that are
+	 * animated or react to the mouse should turn this on.
+	 */
+	boolean renderLive = false;
+	/**
+	 * Whether or not to clip rendering of this component to it's bounding box, on top of anything it's parents are clipped to. Rotated
+	 * components are clipped with the stencil buffer, if Forge has a stencil bit to spare.
 	 * 
-	 * @deprecated Clip To Size is very buggy and not worth the effort required to fix it properly. It is still used and maintained as some
-	 *             PaneComponents rely on it, but as such Clip To Size functionality may contain PaneComponent-specific workarounds and
-	 *             other such quirks, and it should not be depended upon for third-party components.
+	 * @see ClipStack
 	 */
-	@Deprecated boolean clipToSize = false;
+	boolean clipToSize = false;
 	/**
 	 * Whether or not to listen to the relative size set by relativeWidth. If this is true, width will be updated whenever the parent
 	 * container is resized.
@@ -170,9 +180,9 @@ public abstract class PaneComponent
 	 */
 	@Setter(NONE) String tooltip = null;
 	/**
-	 * The font renderer to use for the tooltip.
+	 * The font renderer to use for the tooltip. Null uses Minecraft's normal font renderer.
 	 */
-	FontRenderer tooltipFontRenderer = Minecraft.getMinecraft().fontRendererObj;
+	FontRenderer tooltipFontRenderer = null;
 	/**
 	 * The distance to translate the position of this component on the X axis, in 'big' pixels.
 	 */
@@ -188,17 +198,28 @@ public abstract class PaneComponent
 	 * The parent of this component.
 	 */
 	@PackagePrivate @Setter(NONE) PaneContainer parent = null;
+	/**
+	 * Whether or not this component, or anything inside it, renders live or has a tooltip. Kept up to date as those change and as
+	 * components are added and removed, so caching containers don't have to look through everything every frame to find out.
+	 */
+	@PackagePrivate @Getter(NONE) @Setter(NONE) boolean live = false;
 	@Getter(NONE) @Setter(NONE) protected int mouseX;
 	@Getter(NONE) @Setter(NONE) protected int mouseY;
 	@Getter(NONE) @Setter(NONE) private List<String> tooltipSplit = null;
 	@Getter(NONE) @Setter(NONE) protected Map<String, String> metadata = Maps.newHashMap();
 	
-	@Getter(NONE) @Setter(NONE) protected Map<Class<? extends PaneEvent>, Map<Object, List<Method>>> listeners = new HashMap<Class<? extends PaneEvent>, Map<Object, List<Method>>>();
+	@Getter(NONE) @Setter(NONE) protected ListenerTable listeners = new ListenerTable();
+	@Getter(NONE) @Setter(NONE) private final TransformCache transform = new TransformCache();
 	
 	public PaneComponent() {
 		registerListeners(this);
 	}
 	
+	public FontRenderer getTooltipFontRenderer() {
+		// looked up late, so components can be made before Minecraft's got a font renderer
+		return tooltipFontRenderer == null ? Minecraft.getMinecraft().fontRendererObj : tooltipFontRenderer;
+	}
+	
 	public String getName() {
 		return getMetadata("name");
 	}
@@ -248,10 +269,158 @@ public abstract class PaneComponent
 		} else {
 			tooltipSplit = Lists.newArrayList(tooltip.split("\n"));
 		}
+		// components with tooltips always render live, so caches need to know
+		updateLive();
+		markDirty();
+	}
+	
+	/**
+	 * Whether or not this component is drawn fresh every frame, even inside a container with cacheRendering on. Components that are
+	 * animated or react to the mouse should turn this on.
+	 */
+	public void setRenderLive(final boolean renderLive) {
+		this.renderLive = renderLive;
+		updateLive();
+	}
+	
+	/**
+	 * @return Whether or not this component, or anything inside it, renders live or has a tooltip.
+	 */
+	protected final boolean isLiveSubtree() {
+		return live;
+	}
+	
+	/**
+	 * Works out {@link #live} again, and tells our parent if it changed.
+	 */
+	void updateLive() {
+		final boolean live = renderLive || tooltip != null
+				|| (this instanceof PaneContainer && ((PaneContainer) this).liveChildren > 0);
+		if (live == this.live) return;
+		this.live = live;
+		if (parent != null) {
+			parent.liveChildren += live ? 1 : -1;
+			// we just moved into or out of our parent's cache
+			parent.markCacheDirty();
+			parent.updateLive();
+		}
+	}
+	
+	/**
+	 * Tells any container above this component that's {@link PaneContainer#setCacheRendering(boolean) caching} it's rendering that this
+	 * component looks different now, and needs to be drawn again. Every setter that changes how a built-in component looks calls this,
+	 * as do their own state changes (like a checkbox being ticked), so it's only needed for changes Glass Pane can't see - like fields a
+	 * custom component changes itself, or anything a custom doRender depends on.
+	 */
+	public void markDirty() {
+		if (this instanceof PaneContainer) {
+			((PaneContainer) this).markCacheDirty();
+		}
+		// live components are drawn fresh anyway, and so is everything above them, so no cache past here has us in it
+		PaneComponent work = this;
+		while (!work.live && work.parent != null) {
+			work.parent.markCacheDirty();
+			work = work.parent;
+		}
+	}
+	
+	public void setZIndex(final int zIndex) {
+		if (this.zIndex == zIndex) return;
+		this.zIndex = zIndex;
+		// our parent only sorts it's children again when it's told to
+		if (parent != null) {
+			parent.invalidateRenderOrder();
+		}
+		markDirty();
+	}
+	
+	@Override
+	public void setX(final int x) {
+		if (this.x == x) return;
+		super.setX(x);
+		markDirty();
+	}
+	
+	@Override
+	public void setY(final int y) {
+		if (this.y == y) return;
+		super.setY(y);
+		markDirty();
+	}
+	
+	public void setAngle(final float angle) {
+		this.angle = angle;
+		markDirty();
+	}
+	
+	public void setXRot(final float xRot) {
+		this.xRot = xRot;
+		markDirty();
+	}
+	
+	public void setYRot(final float yRot) {
+		this.yRot = yRot;
+		markDirty();
+	}
+	
+	public void setZRot(final float zRot) {
+		this.zRot = zRot;
+		markDirty();
+	}
+	
+	public void setRotationAllowed(final boolean rotationAllowed) {
+		this.rotationAllowed = rotationAllowed;
+		markDirty();
+	}
+	
+	public void setTranslateX(final float translateX) {
+		this.translateX = translateX;
+		markDirty();
+	}
+	
+	public void setTranslateY(final float translateY) {
+		this.translateY = translateY;
+		markDirty();
+	}
+	
+	public void setVisible(final boolean visible) {
+		this.visible = visible;
+		markDirty();
+	}
+	
+	public void setClipToSize(final boolean clipToSize) {
+		this.clipToSize = clipToSize;
+		markDirty();
+	}
+	
+	public void setDrawBoundingBox(final boolean drawBoundingBox) {
+		this.drawBoundingBox = drawBoundingBox;
+		markDirty();
+	}
+	
+	/**
+	 * How far past it's bounds, in 'big' pixels, this component can draw. Containers won't skip rendering a component that's out of view
+	 * unless it's at least this far out of view.
+	 */
+	protected int getOverdraw() {
+		return 0;
+	}
+	
+	/**
+	 * @return <code>true</code> if nothing this component draws could show up in the passed area, which is in the same coordinates as this
+	 *         component's position.
+	 */
+	boolean isOutside(final float left, final float top, final float right, final float bottom) {
+		// rotated components could be anywhere, and tooltips are drawn wherever the mouse is
+		if ((angle != 0 && rotationAllowed) || (hoverTime >= 30 && tooltip != null)) return false;
+		final int overdraw = getOverdraw();
+		final float x0 = x + translateX - overdraw;
+		final float y0 = y + translateY - overdraw;
+		return x0 + width + overdraw * 2 < left || y0 + height + overdraw * 2 < top || x0 > right || y0 > bottom;
 	}
 	
 	protected final boolean isListeningForEvent(final Class<? extends PaneEvent> eventClass) {
-		return listeners.containsKey(eventClass) && listeners.get(eventClass).size() > 0;
+		return listeners.isListening(eventClass);
 	}
 	
 	/**
@@ -278,63 +447,73 @@ public abstract class PaneComponent
 	public final void render(final int mouseX, final int mouseY, final float partialTicks) {
 		// just return if we aren't visible
 		if (!visible) return;
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// push a matrix so we can easily revert
-		GL11.glPushMatrix();
+		pr.pushMatrix();
 		// draw a bounding box if asked, for debugging purposes
 		if (drawBoundingBox) {
-			Rendering.drawRect(x, y, x + width, y + height, ~(System.identityHashCode(this) | 0xFF000000));
-			Rendering.drawRect(x + 1, y + 1, x + (width - 2), y + (height - 2),
-					System.identityHashCode(this) | 0xFF000000);
+			pr.drawRect(x, y, x + width, y + height, ~(System.identityHashCode(this) | 0xFF000000));
+			pr.drawRect(x + 1, y + 1, x + (width - 2), y + (height - 2), System.identityHashCode(this) | 0xFF000000);
 		}
 		// only do position transformations if we're a component
 		if (!(this instanceof GlassPane)) {
-			// clip to this component's size
-			if (clipToSize) {
-				final GlassPane pane = getGlassPane();
-				GL11.glScissor(getAbsoluteX(pane.getWidth()), getAbsoluteY(pane.getHeight()),
-						getAbsoluteWidth(pane.getWidth()), getAbsoluteHeight(pane.getHeight()));
-				GL11.glEnable(GL11.GL_SCISSOR_TEST);
-			}
 			// translate to this component's coordinates
-			GL11.glTranslatef(x, y, zIndex);
+			pr.translate(x, y, zIndex);
 		} else if (((GlassPane) this).isScreenClearedBeforeDrawing() && currentScreenIsThis()) {
-			GL11.glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
-			GL11.glClear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
+			pr.clear(0x000000);
 		}
-		GL11.glTranslatef(translateX, translateY, 0);
+		pr.translate(translateX, translateY, 0);
 		// if we're a pane and have a shadowbox, this will be true
 		final boolean renderShadowbox = this instanceof GlassPane && !((GlassPane) this).getScreenMirror().isModal()
 				&& ((GlassPane) this).getShadowbox() != null
 				&& (currentScreenIsThis() || ((GlassPane) this).isTakingOver());
 		// if we don't want shadowboxes to be rotated, render it here
 		if (renderShadowbox && !((GlassPane) this).isShadowboxRotationAllowed()) {
+			// shadowboxes draw straight to GL, so anything the renderer is holding on to has to go first, and GL needs our matrix
+			pr.flush();
 			((GlassPane) this).getShadowbox().render(mouseX, mouseY, partialTicks);
 		}
 		// apply rotation, if wanted
 		if (angle != 0 && rotationAllowed) {
-			GL11.glRotatef(angle, xRot, yRot, zRot);
+			pr.rotate(angle, xRot, yRot, zRot);
 		}
 		// if we do want shadowboxes to be rotated, render it here
 		if (renderShadowbox && ((GlassPane) this).isShadowboxRotationAllowed()) {
+			pr.flush();
 			((GlassPane) this).getShadowbox().render(mouseX, mouseY, partialTicks);
 		}
-		// set the fields, for doTick logic
-		this.mouseX = mouseX;
-		this.mouseY = mouseY;
-		// perform the render
-		performRender(partialTicks);
-		// pop the matrix to revert to the previous state, and disable scissor test
-		if (clipToSize) {
-			GL11.glDisable(GL11.GL_SCISSOR_TEST);
+		// set the fields, for doTick logic - with our translation and rotation undone, so they line up with our bounds
+		this.mouseX = untransformX(mouseX, mouseY);
+		this.mouseY = untransformY(mouseX, mouseY);
+		// clip to this component's size, on top of anything we're already clipped to
+		final boolean clipped = clipToSize && !(this instanceof GlassPane);
+		if (clipped && !ClipStack.clip(this)) {
+			// we're entirely clipped away, so there's nothing to draw
+			pr.popMatrix();
+			return;
+		}
+		try {
+			// perform the render
+			performRender(pr, partialTicks);
+		} finally {
+			// put the clip back the way it was
+			if (clipped) {
+				ClipStack.pop();
+			}
 		}
-		GL11.glPopMatrix();
-		GL11.glPushMatrix();
+		// pop the matrix to revert to the previous state
+		pr.popMatrix();
 		if (hoverTime >= 30 && tooltip != null) {
 			// render a tooltip if we should
-			GL11.glTranslatef(0, 0, 5f);
-			Rendering.drawHoveringText(tooltipSplit, mouseX, mouseY, tooltipFontRenderer);
+			pr.pushMatrix();
+			pr.translate(0, 0, 5f);
+			pr.drawHoveringText(tooltipSplit, mouseX, mouseY, getTooltipFontRenderer());
+			pr.popMatrix();
+		}
+		// the root of the hierarchy is done, so draw everything that was batched up
+		if (parent == null) {
+			pr.flush();
 		}
-		GL11.glPopMatrix();
 	}
 	
 	/**
@@ -344,6 +523,8 @@ public abstract class PaneComponent
 	 *         parents is orphaned)
 	 */
 	public GlassPane getGlassPane() {
+		// nothing's been added or removed anywhere since we last looked, so it's still the same
+		if (transform.paneVersion == TransformCache.hierarchyVersion) return transform.pane;
 		PaneComponent work = this;
 		while (!(work instanceof GlassPane)) {
 			work = work.getParent();
@@ -351,10 +532,73 @@ public abstract class PaneComponent
 				break;
 			}
 		}
-		if (work instanceof GlassPane)
-			return (GlassPane) work;
-		else
-			return null;
+		transform.pane = work instanceof GlassPane ? (GlassPane) work : null;
+		transform.paneVersion = TransformCache.hierarchyVersion;
+		return transform.pane;
+	}
+	
+	/**
+	 * Gets the transform from this component's coordinates (0, 0 being it's top left corner) to it's parent's children's coordinates -
+	 * it's position, translation and rotation. It's cached, and only worked out again when one of those changes.
+	 * 
+	 * @return The local transform. Don't hang on to it, it changes along with this component.
+	 */
+	public PaneTransform getLocalTransform() {
+		transform.validateLocal(this);
+		return transform.local;
+	}
+	
+	/**
+	 * Gets the transform from this component's coordinates (0, 0 being it's top left corner) to the screen's, in 'big' pixels. It's
+	 * cached, and only worked out again when this component or one of it's parents is moved, translated, or rotated.
+	 * 
+	 * @return The screen transform. Don't hang on to it, it changes along with this component.
+	 */
+	public PaneTransform getScreenTransform() {
+		return validateTransform().screen;
+	}
+	
+	TransformCache validateTransform() {
+		transform.validate(this);
+		return transform;
+	}
+	
+	/**
+	 * Like {@link #withinBounds(int, int)}, but takes this component's translation and rotation into account, so it's right for where
+	 * this component actually shows up.
+	 * 
+	 * @param mouseX
+	 *            The X coordinate, relative to this component's parent's children.
+	 * @param mouseY
+	 *            The Y coordinate, relative to this component's parent's children.
+	 * @return <code>true</code> if the point is over this component.
+	 */
+	boolean hitTest(final int mouseX, final int mouseY) {
+		transform.validateLocal(this);
+		// edge-on components can't be hit at all
+		if (!transform.localInvertible) return false;
+		final float lx = transform.localInverse.transformX(mouseX, mouseY);
+		final float ly = transform.localInverse.transformY(mouseX, mouseY);
+		return lx >= 0 && ly >= 0 && lx <= width && ly <= height;
+	}
+	
+	/**
+	 * Undoes this component's translation and rotation on a point relative to it's parent's children, so it's in the same coordinates as
+	 * this component's position again.
+	 */
+	int untransformX(final int mouseX, final int mouseY) {
+		transform.validateLocal(this);
+		if (!transform.localInvertible) return mouseX;
+		return (int) transform.x + (int) Math.floor(transform.localInverse.transformX(mouseX, mouseY));
+	}
+	
+	/**
+	 * @see #untransformX(int, int)
+	 */
+	int untransformY(final int mouseX, final int mouseY) {
+		transform.validateLocal(this);
+		if (!transform.localInvertible) return mouseY;
+		return (int) transform.y + (int) Math.floor(transform.localInverse.transformY(mouseX, mouseY));
 	}
 	
 	public int getChainX() {
@@ -440,28 +684,31 @@ public abstract class PaneComponent
 		return false;
 	}
 	
-	private void performRender(final float partialTicks) {
-		if (clipToSize) {
-			// save the scissor box so we can revert it in case the component's render method changes it (e.g. containers)
-			GL11.glPushAttrib(GL11.GL_SCISSOR_BIT);
-		}
-		GL11.glPushMatrix();
+	private void performRender(final PaneRenderer pr, final float partialTicks) {
+		pr.pushMatrix();
 		// fire a pre-render event
-		fireEvent(PaneComponentPreRenderEvent.class, this, mouseX, mouseY, partialTicks);
+		if (isListeningForEvent(PaneComponentPreRenderEvent.class)) {
+			final PaneComponentPreRenderEvent e = PaneComponentPreRenderEvent.obtain(this, mouseX, mouseY, partialTicks);
+			listeners.dispatch(PaneComponentPreRenderEvent.class, e);
+			PaneComponentPreRenderEvent.POOL.release(e);
+		}
 		// render the component
 		doRender(mouseX, mouseY, partialTicks);
 		// and fire a post-render event.
-		fireEvent(PaneComponentPostRenderEvent.class, this, mouseX, mouseY, partialTicks);
-		GL11.glPopMatrix();
-		if (clipToSize) {
-			// restore the scissor box
-			GL11.glPopAttrib();
+		if (isListeningForEvent(PaneComponentPostRenderEvent.class)) {
+			final PaneComponentPostRenderEvent e = PaneComponentPostRenderEvent.obtain(this, mouseX, mouseY, partialTicks);
+			listeners.dispatch(PaneComponentPostRenderEvent.class, e);
+			PaneComponentPostRenderEvent.POOL.release(e);
 		}
+		pr.popMatrix();
 	}
 	
 	/**
 	 * Renders this Component. When this method is called, a clip and transform have already been applied to the GL context and the receiver
-	 * does not have to worry about applying transforms or going out of bounds.
+	 * does not have to worry about applying transforms or going out of bounds.<br/>
+	 * Built-in components draw through the {@link RenderBackend#getRenderer() current renderer} rather than GL, so they can be rendered
+	 * headless. Third-party components are encouraged to do the same, but drawing with GL directly still works, as long as the renderer is
+	 * {@link PaneRenderer#flush() flushed} first.
 	 * 
 	 * @param mouseX
 	 *            The X coordinate of the mouse, in 'big' pixels.
@@ -480,53 +727,31 @@ public abstract class PaneComponent
 	 *            The object to register
 	 */
 	public final void registerListeners(final Object o) {
-		for (final Method m : o.getClass().getMethods()) {
-			// first check if we have the @PaneEventHandler annotation
-			if (m.getAnnotation(PaneEventHandler.class) != null) {
-				// if we do, see if the method has only one parameter
-				if (m.getParameterTypes().length == 1) {
-					// and that that parameter can be cast to a PaneEvent
-					if (PaneEvent.class.isAssignableFrom(m.getParameterTypes()[0])) {
-						// first we'll cast the parameter class, which should be safe given the above check
-						@SuppressWarnings("unchecked")
-						final Class<? extends PaneEvent> eventClass = (Class<? extends PaneEvent>) m
-								.getParameterTypes()[0];
-						// now we'll grab the objects map
-						Map<Object, List<Method>> objects;
-						if (listeners.containsKey(eventClass) && listeners.get(eventClass) != null) {
-							// if it exists, use it
-							objects = listeners.get(eventClass);
-						} else {
-							// otherwise make a new one
-							objects = Maps.newHashMap();
-							listeners.put(eventClass, objects);
-						}
-						// now grab the methods list
-						List<Method> methodList;
-						if (objects.containsKey(o) && objects.get(o) != null) {
-							// use it if it exists
-							methodList = objects.get(o);
-						} else {
-							// or make a new one.
-							methodList = Lists.newArrayList();
-							objects.put(o, methodList);
-						}
-						// now add the current method to the list
-						methodList.add(m);
-						// and fire an event for the registration
-						fireEvent(PaneEventListenerRegisterEvent.class, this, o, m);
-					} else {
-						// not a PaneEvent, print an error and continue
-						System.err
-								.println("[GlassPane] [EventSystem] Found a method with incorrect parameter types when registering listener "
-										+ o.getClass().getName());
-					}
-				} else {
-					// method has more than one parameter, or no parameters. print an error and continue
-					System.err
-							.println("[GlassPane] [EventSystem] Found a method with an incorrect number of parameters when registering listener "
-									+ o.getClass().getName());
-				}
+		registerListeners(o, RegistrationMode.STRONG);
+	}
+	
+	/**
+	 * Registers all methods annotated with {@link PaneEventHandler} as event listeners for their argument, holding on to the object as the
+	 * passed mode says. Use {@link RegistrationMode#WEAK} or {@link RegistrationMode#EPHEMERAL} for objects that shouldn't be kept alive by
+	 * this component, such as screens that register with a long-lived overlay.
+	 * 
+	 * @param o
+	 *            The object to register
+	 * @param mode
+	 *            How to hold on to the object
+	 */
+	public final void registerListeners(final Object o, final @NonNull RegistrationMode mode) {
+		// the methods are only looked up the first time an object of this class is registered, anywhere
+		for (final ListenerMethod m : ListenerMethods.forClass(o.getClass())) {
+			// resolve the event's factory now, so a broken SIGNATURE is reported here instead of on every fire. abstract events (like
+			// PaneEvent itself) are only listened for, never created, so they don't need one
+			if (!Modifier.isAbstract(m.getEventClass().getModifiers())) {
+				EventFactory.register(m.getEventClass());
+			}
+			listeners.add(o, m, mode);
+			// and fire an event for the registration
+			if (isListeningForEvent(PaneEventListenerRegisterEvent.class)) {
+				fireEvent(PaneEventListenerRegisterEvent.class, this, o, m.getMethod());
 			}
 		}
 	}
@@ -538,41 +763,25 @@ public abstract class PaneComponent
 	 *            The object to unregister
 	 */
 	public final void unregisterListeners(final Object o) {
-		List<Class<? extends PaneEvent>> needsRemoval = null;
-		boolean didSomething = false;
-		for (final Entry<Class<? extends PaneEvent>, Map<Object, List<Method>>> en : listeners.entrySet()) {
-			// do we have a map in this?
-			if (en.getValue() != null) {
-				// we do. does it contain our object?
-				if (en.getValue().containsKey(o)) {
-					// it does.
-					en.getValue().remove(o);
-					didSomething = true;
-					// do we still have some entries in here?
-					if (en.getValue().isEmpty()) {
-						// no, we don't.
-						if (needsRemoval == null) {
-							needsRemoval = Lists.newArrayList();
-						}
-						// add this event class to the removal list to prevent having extra maps
-						needsRemoval.add(en.getKey());
-					}
-				}
-			}
+		// fire an event for the unregistration, if we actually did something.
+		if (listeners.remove(o)) {
+			// we only call this once per object instead of once per method like in register, as the table removes all of the object's
+			// methods at once.
+			fireEvent(PaneEventListenerUnregisterEvent.class, this, o);
 		}
-		// are some entries pending removal?
-		if (needsRemoval != null) {
-			// yes, so let's remove them
-			for (final Class<? extends PaneEvent> clazz : needsRemoval) {
-				listeners.remove(clazz);
+	}
+	
+	/**
+	 * Unregisters every object that was registered as {@link RegistrationMode#EPHEMERAL} on this component and all of it's children.
+	 * Called automatically when a GlassPane is hidden.
+	 */
+	public final void unregisterEphemeralListeners() {
+		listeners.removeEphemeral();
+		if (this instanceof PaneContainer) {
+			for (final PaneComponent c : ((PaneContainer) this).components) {
+				c.unregisterEphemeralListeners();
 			}
 		}
-		// fire an event for the unregistration, if we actually did something.
-		if (didSomething) {
-			// we only call this once per object instead of once per method like in register because we would get a concurrent modification
-			// exception if we did it in the above for loop.
-			fireEvent(PaneEventListenerUnregisterEvent.class, o);
-		}
 	}
 	
 	/**
@@ -583,137 +792,146 @@ public abstract class PaneComponent
 	 *            The class of the event to fire.
 	 * @param constructorArgs
 	 *            The arguments to pass to the event's constructor.
-	 * @return The instantiated event, or <code>null</code> if an error occurred or an event did not need to be instantiated.
+	 * @return The instantiated event, or <code>null</code> if an error occurred, an event did not need to be instantiated, or the event is a
+	 *         {@link RecyclableEvent} that went back to it's pool.
 	 */
 	public <T extends PaneEvent> T fireEvent(final @NonNull Class<T> eventClass, final Object... constructorArgs) {
-		// this is a bit hacky, but the only good way to forward into protected from outside the package w/o reflecting
-		if (eventClass == KeyTypedEvent.class) {
-			keyPressed((Character) constructorArgs[1], (Integer) constructorArgs[2]);
-		} else if (eventClass == MouseDownEvent.class) {
-			mouseDown((Integer) constructorArgs[1], (Integer) constructorArgs[2], (Integer) constructorArgs[3]);
-		} else if (eventClass == MouseUpEvent.class) {
-			mouseUp((Integer) constructorArgs[1], (Integer) constructorArgs[2], (Integer) constructorArgs[3]);
-		} else if (eventClass == MouseWheelEvent.class) {
-			mouseWheel((Integer) constructorArgs[1], (Integer) constructorArgs[2], (Integer) constructorArgs[3]);
-		} else if (eventClass == WinchEvent.class) {
-			winch((Integer) constructorArgs[1], (Integer) constructorArgs[2], (Integer) constructorArgs[3],
-					(Integer) constructorArgs[4]);
+		// input events travel through the component tree, so hand them off to their typed versions. they fire from this component, so
+		// anything sourced elsewhere or not matching the SIGNATURE goes the normal way, and the factory reports it if it's wrong
+		if (routesToTyped(eventClass, constructorArgs)) {
+			if (eventClass == KeyTypedEvent.class)
+				return eventClass.cast(fireKeyTyped((Character) constructorArgs[1], (Integer) constructorArgs[2]));
+			else if (eventClass == MouseDownEvent.class)
+				return eventClass.cast(fireMouseDown((Integer) constructorArgs[1], (Integer) constructorArgs[2],
+						(Integer) constructorArgs[3]));
+			else if (eventClass == MouseUpEvent.class)
+				return eventClass.cast(fireMouseUp((Integer) constructorArgs[1], (Integer) constructorArgs[2],
+						(Integer) constructorArgs[3]));
+			else if (eventClass == MouseWheelEvent.class)
+				return eventClass.cast(fireMouseWheel((Integer) constructorArgs[1], (Integer) constructorArgs[2],
+						(Integer) constructorArgs[3]));
+			else if (eventClass == WinchEvent.class)
+				return eventClass.cast(fireWinch((Integer) constructorArgs[1], (Integer) constructorArgs[2],
+						(Integer) constructorArgs[3], (Integer) constructorArgs[4]));
 		}
 		
 		// first of all, to save objects, we're going to check if this event is being listened for on this object.
 		if (!isListeningForEvent(eventClass)) return null; // if not, just return and don't create any event objects. this is good for
 															// high-frequency events.
-			
-		// now we'll create an instance... i hate how many lines all the exception garbage takes.
-		Class<?>[] constructorTypes;
-		try {
-			constructorTypes = (Class<?>[]) eventClass.getField("SIGNATURE").get(null);
-		} catch (final SecurityException e) {
-			e.printStackTrace();
-			if (System.getSecurityManager() == null) {
-				GlassPaneMod.inst
-						.getLog()
-						.error("[GlassPane] [EventSystem] A SecurityException was thrown, but there's no SecurityManager registered...");
-			} else
-				throw new PaneCantContinueError("Security manager (" + System.getSecurityManager().getClass().getName()
-						+ ") prevents proper operation of the GlassPane event system!", e);
-			return null;
-		} catch (final IllegalAccessException e) {
-			e.printStackTrace();
-			GlassPaneMod.inst.getLog().error(
-					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
-							+ "'s SIGNATURE field is non-public!");
-			return null;
-		} catch (final NoSuchFieldException e) {
-			e.printStackTrace();
-			GlassPaneMod.inst.getLog().error(
-					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
-							+ " does not declare static field SIGNATURE!");
-			return null;
-		}
-		T event;
-		try {
-			event = eventClass.getConstructor(constructorTypes).newInstance(constructorArgs);
-		} catch (final SecurityException e) {
-			e.printStackTrace();
-			if (System.getSecurityManager() == null) {
-				GlassPaneMod.inst
-						.getLog()
-						.error("[GlassPane] [EventSystem] A SecurityException was thrown, but there's no SecurityManager registered...");
-				return null;
-			} else
-				throw new PaneCantContinueError("Security manager (" + System.getSecurityManager().getClass().getName()
-						+ ") prevents proper operation of the GlassPane event system!", e);
-		} catch (final NoSuchMethodException e) {
-			e.printStackTrace();
-			final StringBuilder types = new StringBuilder();
-			for (int i = 0; i < constructorTypes.length; i++) {
-				types.append(constructorTypes[i].getName());
-				if (i == constructorTypes.length - 2) {
-					types.append(" and ");
-				} else if (i < constructorTypes.length - 2) {
-					types.append(", ");
-				}
+		
+		// recyclable events get borrowed from their pool instead, if pooling is on
+		if (EventPool.isEnabled() && RecyclableEvent.class.isAssignableFrom(eventClass)) {
+			final EventPool<T> pool = EventPool.of(eventClass);
+			T event = pool.poll();
+			if (event == null) {
+				event = EventFactory.of(eventClass).create(constructorArgs);
+				if (event == null) return null;
+			} else {
+				((RecyclableEvent) event).recycle(constructorArgs);
 			}
-			GlassPaneMod.inst.getLog().error(
-					"[GlassPane] [EventSystem] No constructor for event class " + eventClass.getName()
-							+ " matching the call spec of " + types + "!");
-			return null;
-		} catch (Exception e) {
-			e.printStackTrace();
+			dispatch(eventClass, event);
+			pool.release(event);
+			// it may be handed out again at any time, so don't let the caller see it
 			return null;
 		}
 		
-		// now let's fire it
-		for (final Entry<Object, List<Method>> en : listeners.get(eventClass).entrySet()) {
-			for (final Method method : en.getValue()) {
-				if (method.getAnnotation(PaneEventHandler.class).ignoreConsumed() && event.isConsumed()) {
-					continue;
-				}
-				try {
-					method.setAccessible(true);
-					// you're fired
-					method.invoke(en.getKey(), event);
-				} catch (final IllegalArgumentException e) {
-					e.printStackTrace();
-					GlassPaneMod.inst.getLog().error(
-							"[GlassPane] [EventSystem] Cannot properly invoke method for event class "
-									+ eventClass.getName() + " and listener class " + en.getKey().getClass().getName()
-									+ "!");
-				} catch (final IllegalAccessException e) {
-					e.printStackTrace();
-					GlassPaneMod.inst.getLog().error(
-							"[GlassPane] [EventSystem] No permission to invoke method for event class "
-									+ eventClass.getName() + " and listener class " + en.getKey().getClass().getName()
-									+ "!");
-				} catch (final InvocationTargetException e) {
-					e.printStackTrace();
-					GlassPaneMod.inst.getLog().error(
-							"[GlassPane] [EventSystem] Invocation of method for event class " + eventClass.getName()
-									+ " and listener class " + en.getKey().getClass().getName()
-									+ " threw an exception!");
-				} catch (final SecurityException e) {
-					e.printStackTrace();
-					if (System.getSecurityManager() == null) {
-						GlassPaneMod.inst
-								.getLog()
-								.error("[GlassPane] [EventSystem] A SecurityException was thrown, but there's no SecurityManager registered...");
-						return null;
-					} else
-						throw new PaneCantContinueError("Security manager ("
-								+ System.getSecurityManager().getClass().getName()
-								+ ") prevents proper operation of the GlassPane event system!", e);
-				}
-			}
-		}
-		// and finally return it
+		// now we'll create an instance, using the factory that was resolved when this event class was first seen
+		final T event = EventFactory.of(eventClass).create(constructorArgs);
+		if (event == null) return null; // the factory has already reported what went wrong
+		
+		// now let's fire it, and return it
+		return dispatch(eventClass, event);
+	}
+	
+	private boolean routesToTyped(final Class<? extends PaneEvent> eventClass, final Object[] constructorArgs) {
+		if (eventClass != KeyTypedEvent.class && eventClass != MouseDownEvent.class && eventClass != MouseUpEvent.class
+				&& eventClass != MouseWheelEvent.class && eventClass != WinchEvent.class) return false;
+		return constructorArgs.length > 0 && constructorArgs[0] == this && EventFactory.of(eventClass).accepts(constructorArgs);
+	}
+	
+	/**
+	 * Fires a {@link MouseDownEvent} at the topmost component under the passed point, starting from this component. The event goes through
+	 * the capture, target, and bubble phases (see {@link PropagationPhase}), updating the focus of every container on the way.<br/>
+	 * The arguments aren't boxed, and event objects are only created for components that are listening for them.
+	 * 
+	 * @param mouseX
+	 *            The X coordinate of the mouse, relative to this component's parent.
+	 * @param mouseY
+	 *            The Y coordinate of the mouse, relative to this component's parent.
+	 * @return The event delivered to this component, or <code>null</code> if an error occurred, an event did not need to be instantiated,
+	 *         or propagation was stopped before it got back to this component.
+	 */
+	public MouseDownEvent fireMouseDown(final int mouseX, final int mouseY, final int button) {
+		return HitPath.under(this, mouseX, mouseY).fireMouseDown(button);
+	}
+	
+	/**
+	 * Fires a {@link MouseUpEvent} at the topmost component under the passed point, starting from this component. The event goes through
+	 * the capture, target, and bubble phases (see {@link PropagationPhase}).<br/>
+	 * The arguments aren't boxed, and event objects are only created for components that are listening for them.
+	 * 
+	 * @param mouseX
+	 *            The X coordinate of the mouse, relative to this component's parent.
+	 * @param mouseY
+	 *            The Y coordinate of the mouse, relative to this component's parent.
+	 * @return The event delivered to this component, or <code>null</code> if an error occurred, an event did not need to be instantiated,
+	 *         or propagation was stopped before it got back to this component.
+	 */
+	public MouseUpEvent fireMouseUp(final int mouseX, final int mouseY, final int button) {
+		return HitPath.under(this, mouseX, mouseY).fireMouseUp(button);
+	}
+	
+	/**
+	 * Fires a {@link MouseWheelEvent} at the topmost component under the passed point, starting from this component. The event goes
+	 * through the capture, target, and bubble phases (see {@link PropagationPhase}).<br/>
+	 * The arguments aren't boxed, and event objects are only created for components that are listening for them.
+	 * 
+	 * @param mouseX
+	 *            The X coordinate of the mouse, relative to this component's parent.
+	 * @param mouseY
+	 *            The Y coordinate of the mouse, relative to this component's parent.
+	 * @return The event delivered to this component, or <code>null</code> if an error occurred, an event did not need to be instantiated,
+	 *         or propagation was stopped before it got back to this component.
+	 */
+	public MouseWheelEvent fireMouseWheel(final int mouseX, final int mouseY, final int distance) {
+		return HitPath.under(this, mouseX, mouseY).fireMouseWheel(distance);
+	}
+	
+	/**
+	 * Fires a {@link KeyTypedEvent} at the end of the focus chain starting from this component, going through the capture, target, and
+	 * bubble phases (see {@link PropagationPhase}). Containers that have nothing focused pass it to the component under the mouse instead.<br/>
+	 * The arguments aren't boxed, and event objects are only created for components that are listening for them.
+	 * 
+	 * @return The event delivered to this component, or <code>null</code> if an error occurred, an event did not need to be instantiated,
+	 *         or propagation was stopped before it got back to this component.
+	 */
+	public KeyTypedEvent fireKeyTyped(final char keyChar, final int keyCode) {
+		return HitPath.focused(this).fireKeyTyped(keyChar, keyCode);
+	}
+	
+	/**
+	 * Fires a {@link WinchEvent} from this component. Equivalent to
+	 * <code>fireEvent(WinchEvent.class, this, oldWidth, oldHeight, newWidth, newHeight)</code>, but doesn't box the arguments or allocate
+	 * anything if there are no listeners for the event.
+	 * 
+	 * @return The fired event, or <code>null</code> if an error occurred or an event did not need to be instantiated.
+	 */
+	public WinchEvent fireWinch(final int oldWidth, final int oldHeight, final int newWidth, final int newHeight) {
+		markDirty();
+		winch(oldWidth, oldHeight, newWidth, newHeight);
+		if (!isListeningForEvent(WinchEvent.class)) return null;
+		return dispatch(WinchEvent.class, new WinchEvent(this, oldWidth, oldHeight, newWidth, newHeight));
+	}
+	
+	private <T extends PaneEvent> T dispatch(final Class<T> eventClass, final T event) {
+		if (!listeners.dispatch(eventClass, event)) return null;
 		return event;
 	}
 	
 	@Override
 	public void setHeight(final int height) {
 		if (height != this.height) {
-			fireEvent(WinchEvent.class, this, this.width, this.height, this.width, height);
+			fireWinch(this.width, this.height, this.width, height);
 		}
 		super.setHeight(height);
 	}
@@ -721,7 +939,7 @@ public abstract class PaneComponent
 	@Override
 	public void setWidth(final int width) {
 		if (width != this.width) {
-			fireEvent(WinchEvent.class, this, this.width, this.height, width, this.height);
+			fireWinch(this.width, this.height, width, this.height);
 		}
 		super.setWidth(width);
 	}
@@ -736,7 +954,13 @@ public abstract class PaneComponent
 	@Getter(NONE) @Setter(NONE) private int hoverTime = 0;
 	
 	public final void tick() {
-		fireEvent(ComponentTickEvent.class, this);
+		// deliver anything throttled handlers have been waiting on
+		listeners.flush();
+		if (isListeningForEvent(ComponentTickEvent.class)) {
+			final ComponentTickEvent e = ComponentTickEvent.obtain(this);
+			listeners.dispatch(ComponentTickEvent.class, e);
+			ComponentTickEvent.POOL.release(e);
+		}
 		if (this instanceof PaneContainer) {
 			for (final PaneComponent c : ((PaneContainer) this).components) {
 				c.tick();
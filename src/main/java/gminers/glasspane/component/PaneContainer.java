@@ -7,16 +7,20 @@ import gminers.glasspane.event.ComponentParentChangeEvent;
 import gminers.glasspane.event.ComponentRemovedEvent;
 import gminers.glasspane.event.FocusGainedEvent;
 import gminers.glasspane.event.FocusLostEvent;
-import gminers.glasspane.event.KeyTypedEvent;
-import gminers.glasspane.event.MouseDownEvent;
-import gminers.glasspane.event.MouseUpEvent;
-import gminers.glasspane.event.MouseWheelEvent;
+import gminers.glasspane.render.BatchingPaneRenderer;
+import gminers.glasspane.render.ClipStack;
+import gminers.glasspane.render.RenderBackend;
+import gminers.glasspane.render.RenderCache;
+import gminers.glasspane.render.TextureAtlas;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import lombok.Getter;
 import lombok.Setter;
+import net.minecraft.client.Minecraft;
 
 import org.lwjgl.input.Keyboard;
 
@@ -33,15 +37,54 @@ public abstract class PaneContainer
 		extends PaneComponent
 		implements Focusable {
 	protected List<PaneComponent> components = new CopyOnWriteArrayList<PaneComponent>();
+	// components sorted back to front, in the order they render. null when it has to be sorted again
+	private PaneComponent[] renderOrder = null;
 	private boolean focusableComponentPresent = false;
+	// the number of children that are live, so we know if we are without looking through them
+	int liveChildren = 0;
 	/**
 	 * The component that currently has the focus.
 	 */
-	@Getter @Setter protected PaneComponent focusedComponent = null;
+	@Getter protected PaneComponent focusedComponent = null;
 	/**
 	 * Whether or not to allow using Tab and Shift+Tab to cycle the currently focused component.
 	 */
 	@Getter @Setter protected boolean cycleFocusOnTabPress = true;
+	/**
+	 * Whether or not to draw this container's children into a display list once, and replay it every frame until something changes,
+	 * instead of drawing them from scratch every frame. Good for big screens that hardly ever change.<br/>
+	 * Children with renderLive on (and anything containing them) are drawn normally every frame, on top of the cached ones. The cache is
+	 * recorded again whenever something inside it {@link PaneComponent#markDirty() marks itself dirty}, which all the built-in setters
+	 * do.<br/>
+	 * Only has an effect when drawing with a {@link BatchingPaneRenderer}, and on containers that draw their children with
+	 * {@link #renderChildren(int, int, float)}.
+	 */
+	@Getter protected boolean cacheRendering = false;
+	boolean cacheDirty = true;
+	private RenderCache cache = null;
+	// where the cache was recorded on the screen, since that isn't something any of our children can mark dirty
+	private final int[] cacheSnapshot = new int[SNAPSHOT_SIZE];
+	private int snapshotPos = 0;
+	private boolean snapshotChanged = false;
+	private static final int SNAPSHOT_SIZE = 15;
+	private static final Comparator<PaneComponent> Z_ORDER = new Comparator<PaneComponent>() {
+		@Override
+		public int compare(final PaneComponent a, final PaneComponent b) {
+			return a.getZIndex() < b.getZIndex() ? -1 : (a.getZIndex() == b.getZIndex() ? 0 : 1);
+		}
+	};
+	private static int culled = 0;
+	private static int rendered = 0;
+	/**
+	 * The number of components that were skipped last time this container was rendered as the root of a hierarchy, because they were
+	 * entirely outside the screen or a parent that clips to it's size. Skipped containers count as one, no matter how much is in them.
+	 */
+	@Getter private int culledCount = 0;
+	/**
+	 * The number of components that were rendered last time this container was rendered as the root of a hierarchy. Components drawn
+	 * from a {@link #cacheRendering cache} aren't counted.
+	 */
+	@Getter private int renderedCount = 0;
 	
 	/**
 	 * Adds multiple PaneComponents to this container, with their positions defined by the current PaneLayoutManager.<br/>
@@ -69,11 +112,18 @@ public abstract class PaneContainer
 		fireEvent(ComponentAddedEvent.class, this, c);
 		final PaneContainer oldParent = c.parent;
 		c.parent = this;
+		TransformCache.hierarchyVersion++;
 		c.fireEvent(ComponentParentChangeEvent.class, c, oldParent);
 		if (c instanceof Focusable) {
 			focusableComponentPresent = true;
 		}
 		components.add(c);
+		renderOrder = null;
+		if (c.live) {
+			liveChildren++;
+			updateLive();
+		}
+		markDirty();
 	}
 	
 	/**
@@ -98,11 +148,17 @@ public abstract class PaneContainer
 		fireEvent(ComponentRemovedEvent.class, this, c);
 		if (components.contains(c)) {
 			c.parent = null;
+			TransformCache.hierarchyVersion++;
 			c.fireEvent(ComponentParentChangeEvent.class, c, this);
 			if (focusedComponent == c) {
-				focusedComponent = null;
+				setFocusedComponent(null);
 			}
 			components.remove(c);
+			renderOrder = null;
+			if (c.live) {
+				liveChildren--;
+				updateLive();
+			}
 			focusableComponentPresent = false;
 			for (final PaneComponent co : components) {
 				if (co instanceof Focusable) {
@@ -110,6 +166,7 @@ public abstract class PaneContainer
 					break;
 				}
 			}
+			markDirty();
 		}
 	}
 	
@@ -122,9 +179,14 @@ public abstract class PaneContainer
 			c.parent = null;
 			c.fireEvent(ComponentParentChangeEvent.class, c, this);
 		}
+		TransformCache.hierarchyVersion++;
 		focusableComponentPresent = false;
 		focusedComponent = null;
 		components.clear();
+		renderOrder = null;
+		liveChildren = 0;
+		updateLive();
+		markDirty();
 	}
 	
 	/**
@@ -136,96 +198,249 @@ public abstract class PaneContainer
 		return Lists.newArrayList(components);
 	}
 	
-	@Override
-	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
-		final int pX = getPX();
-		final int pY = getPY();
-		for (final PaneComponent pc : components) {
-			pc.render(mouseX - pX, mouseY - pY, partialTicks);
+	/**
+	 * Gets this container's children in the order they render, back to front. Components with higher Z indexes render later, and between
+	 * components with the same Z index, the one added last renders last.<br/>
+	 * The order is only sorted again when children are added or removed, or one of their Z indexes changes. The returned array must not be
+	 * modified.
+	 */
+	protected PaneComponent[] getRenderOrder() {
+		PaneComponent[] order = renderOrder;
+		if (order == null) {
+			order = components.toArray(new PaneComponent[components.size()]);
+			// this sort is stable, so insertion order breaks ties
+			Arrays.sort(order, Z_ORDER);
+			renderOrder = order;
 		}
+		return order;
 	}
 	
-	protected int getPY() {
-		return getY();
+	public void setFocusedComponent(final PaneComponent focusedComponent) {
+		if (this.focusedComponent == focusedComponent) return;
+		// both of them draw their focus border differently now
+		if (this.focusedComponent != null) {
+			this.focusedComponent.markDirty();
+		}
+		this.focusedComponent = focusedComponent;
+		if (focusedComponent != null) {
+			focusedComponent.markDirty();
+		}
 	}
 	
-	protected int getPX() {
-		return getX();
+	/**
+	 * Called when one of this container's children changes it's Z index.
+	 */
+	void invalidateRenderOrder() {
+		renderOrder = null;
+	}
+	
+	public void setCacheRendering(final boolean cacheRendering) {
+		this.cacheRendering = cacheRendering;
+		if (!cacheRendering && cache != null) {
+			cache.free();
+			cache = null;
+		}
+		cacheDirty = true;
+	}
+	
+	/**
+	 * Called by {@link PaneComponent#markDirty()} on every container above the component that changed.
+	 */
+	protected void markCacheDirty() {
+		cacheDirty = true;
 	}
 	
 	@Override
-	protected void mouseDown(final int mouseX, final int mouseY, final int button) {
-		if (!isVisible()) return;
-		boolean clickedAFocusable = false;
+	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		renderChildren(mouseX, mouseY, partialTicks);
+	}
+	
+	/**
+	 * Renders all of this container's children, from the cache if {@link #cacheRendering} is on. Children that are entirely out of view
+	 * are skipped.<br/>
+	 * Assumes the children are drawn at {@link #getPX()}, {@link #getPY()} plus this container's translation.
+	 */
+	protected void renderChildren(final int mouseX, final int mouseY, final float partialTicks) {
+		final boolean root = parent == null;
+		final int lastCulled = culled, lastRendered = rendered;
+		if (root) {
+			culled = 0;
+			rendered = 0;
+		}
+		ClipStack.enter(this, getPX() + getTranslateX(), getPY() + getTranslateY());
+		try {
+			renderChildren0(mouseX, mouseY, partialTicks);
+		} finally {
+			ClipStack.exit();
+			if (root) {
+				culledCount = culled;
+				renderedCount = rendered;
+				culled = lastCulled;
+				rendered = lastRendered;
+			}
+		}
+	}
+	
+	private void renderChild(final PaneComponent pc, final int mouseX, final int mouseY, final float partialTicks) {
+		if (!pc.isVisible()) return;
+		if (ClipStack.isKnown(this) && pc.isOutside(ClipStack.getLeft(), ClipStack.getTop(), ClipStack.getRight(), ClipStack.getBottom())) {
+			culled++;
+			return;
+		}
+		rendered++;
+		pc.render(mouseX, mouseY, partialTicks);
+	}
+	
+	private void renderChildren0(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneComponent[] order = getRenderOrder();
 		final int pX = getPX();
 		final int pY = getPY();
-		for (final PaneComponent c : components) {
-			if (!c.isVisible()) {
-				continue;
+		// caches can't be nested, so if we're inside another one we just draw into that
+		if (!cacheRendering || !(RenderBackend.getRenderer() instanceof BatchingPaneRenderer) || RenderCache.isRecordingAny()) {
+			for (final PaneComponent pc : order) {
+				renderChild(pc, mouseX - pX, mouseY - pY, partialTicks);
 			}
-			if (c.withinBounds(mouseX - pX, mouseY - pY)) {
-				if (c instanceof Focusable && button == 0) {
-					clickedAFocusable = true;
-					if (c.isVisible() && focusedComponent != c) {
-						final PaneComponent oldFocused = focusedComponent;
-						focusedComponent = c;
-						final FocusGainedEvent fge = focusedComponent.fireEvent(FocusGainedEvent.class,
-								focusedComponent);
-						if (fge != null) {
-							if (fge.isConsumed()) {
-								focusedComponent = oldFocused;
-								continue;
-							}
-						}
-						if (oldFocused != null) {
-							oldFocused.fireEvent(FocusLostEvent.class, oldFocused);
-						}
-					}
-					if (c.isActivatedOnClick()) {
-						c.fireEvent(ComponentActivateEvent.class, c);
+			return;
+		}
+		if (cache == null) {
+			cache = new RenderCache();
+		}
+		// always take the snapshot, so it's up to date for next frame. it's the same few numbers no matter how much is in the cache,
+		// everything inside it tells us when it changes with markDirty
+		if (takeSnapshot() || cacheDirty || !cache.isValid()) {
+			cacheDirty = false;
+			// if we can't record for some reason, this just draws everything normally
+			final boolean recording = cache.begin();
+			try {
+				for (final PaneComponent pc : order) {
+					if (!isLive(pc)) {
+						renderChild(pc, mouseX - pX, mouseY - pY, partialTicks);
 					}
 				}
-				c.fireEvent(MouseDownEvent.class, c, mouseX - pX, mouseY - pY, button);
+			} finally {
+				if (recording) {
+					cache.end();
+				}
 			}
+		} else {
+			cache.replay();
 		}
-		if (!clickedAFocusable) {
-			focusedComponent = null;
-			if (parent != null) {
-				parent.focusedComponent = null;
+		for (final PaneComponent pc : order) {
+			if (isLive(pc)) {
+				renderChild(pc, mouseX - pX, mouseY - pY, partialTicks);
 			}
-		} else if (parent != null) {
-			parent.focusedComponent = this;
 		}
 	}
 	
-	@Override
-	protected void mouseUp(final int mouseX, final int mouseY, final int button) {
-		if (!isVisible()) return;
-		final int pX = getPX();
-		final int pY = getPY();
-		for (final PaneComponent c : components) {
-			if (!c.isVisible()) {
-				continue;
-			}
-			if (c.withinBounds(mouseX - pX, mouseY - pY)) {
-				c.fireEvent(MouseUpEvent.class, c, mouseX - pX, mouseY - pY, button);
-			}
+	private static boolean isLive(final PaneComponent pc) {
+		// kept up to date as things change, so this doesn't have to look through everything in pc
+		return pc.live;
+	}
+	
+	/**
+	 * @return <code>true</code> if the cache moved on the screen since the last snapshot.
+	 */
+	private boolean takeSnapshot() {
+		snapshotPos = 0;
+		snapshotChanged = false;
+		final Minecraft mc = Minecraft.getMinecraft();
+		// scissor boxes are in window pixels, so they depend on where we are on the screen - which any of our parents moving,
+		// translating, or rotating changes, not just our own position
+		snap(mc.displayWidth);
+		snap(mc.displayHeight);
+		final PaneTransform screen = getScreenTransform();
+		snap(Float.floatToIntBits(screen.getM00()));
+		snap(Float.floatToIntBits(screen.getM01()));
+		snap(Float.floatToIntBits(screen.getM02()));
+		snap(Float.floatToIntBits(screen.getM10()));
+		snap(Float.floatToIntBits(screen.getM11()));
+		snap(Float.floatToIntBits(screen.getM12()));
+		snap(getPX());
+		snap(getPY());
+		snap(TextureAtlas.getGeneration());
+		// culled children aren't in the cache, so it has to be recorded again when what's culled could change
+		final boolean known = ClipStack.isKnown(this);
+		snap(known ? Float.floatToIntBits(ClipStack.getLeft()) : 0);
+		snap(known ? Float.floatToIntBits(ClipStack.getTop()) : 0);
+		snap(known ? Float.floatToIntBits(ClipStack.getRight()) : 0);
+		snap(known ? Float.floatToIntBits(ClipStack.getBottom()) : 0);
+		return snapshotChanged;
+	}
+	
+	private void snap(final int value) {
+		if (cacheSnapshot[snapshotPos] != value) {
+			cacheSnapshot[snapshotPos] = value;
+			snapshotChanged = true;
 		}
+		snapshotPos++;
 	}
 	
-	@Override
-	protected void mouseWheel(final int mouseX, final int mouseY, final int distance) {
-		if (!isVisible()) return;
-		final int pX = getPX();
-		final int pY = getPY();
-		for (final PaneComponent c : components) {
-			if (!c.isVisible()) {
-				continue;
+	protected int getPY() {
+		return getY();
+	}
+	
+	protected int getPX() {
+		return getX();
+	}
+	
+	/**
+	 * Finds the topmost visible component in this container under the passed point. Components with higher Z indexes are on top, and
+	 * between components with the same Z index, the one added last is on top, as it renders last. Translated and rotated components are
+	 * hit where they're drawn, not where their position says they are.
+	 * 
+	 * @param mouseX
+	 *            The X coordinate, relative to this container's children.
+	 * @param mouseY
+	 *            The Y coordinate, relative to this container's children.
+	 * @return The topmost component under the point, or null if there isn't one.
+	 */
+	public PaneComponent getComponentAt(final int mouseX, final int mouseY) {
+		// front to back, so the first hit is the one on top
+		final PaneComponent[] order = getRenderOrder();
+		for (int i = order.length - 1; i >= 0; i--) {
+			final PaneComponent c = order[i];
+			if (c.isVisible() && c.hitTest(mouseX, mouseY)) return c;
+		}
+		return null;
+	}
+	
+	/**
+	 * Updates the focus of this container for a click on the passed child, which is null if the click didn't hit any of them.
+	 * 
+	 * @return <code>false</code> if the clicked component refused the focus, and shouldn't receive the click.
+	 */
+	boolean clickFocus(final PaneComponent c, final int button) {
+		if (c instanceof Focusable && button == 0) {
+			if (focusedComponent != c) {
+				final PaneComponent oldFocused = focusedComponent;
+				setFocusedComponent(c);
+				final FocusGainedEvent fge = c.fireEvent(FocusGainedEvent.class, c);
+				if (fge != null) {
+					if (fge.isConsumed()) {
+						setFocusedComponent(oldFocused);
+						if (parent != null) {
+							parent.setFocusedComponent(this);
+						}
+						return false;
+					}
+				}
+				if (oldFocused != null) {
+					oldFocused.fireEvent(FocusLostEvent.class, oldFocused);
+				}
+			}
+			if (c.isActivatedOnClick()) {
+				c.fireEvent(ComponentActivateEvent.class, c);
 			}
-			if (c.withinBounds(mouseX - pX, mouseY - pY)) {
-				c.fireEvent(MouseWheelEvent.class, c, mouseX - pX, mouseY - pY, distance);
+			if (parent != null) {
+				parent.setFocusedComponent(this);
+			}
+		} else {
+			setFocusedComponent(null);
+			if (parent != null) {
+				parent.setFocusedComponent(null);
 			}
 		}
+		return true;
 	}
 	
 	@Override
@@ -241,16 +456,6 @@ public abstract class PaneContainer
 				focusedComponent.fireEvent(ComponentActivateEvent.class, focusedComponent);
 			}
 		}
-		final int pX = getPX();
-		final int pY = getPY();
-		for (final PaneComponent c : components) {
-			if (!c.isVisible()) {
-				continue;
-			}
-			if (c == focusedComponent || c.withinBounds(mouseX - pX, mouseY - pY)) {
-				c.fireEvent(KeyTypedEvent.class, c, keyChar, keyCode);
-			}
-		}
 	}
 	
 	/**
@@ -292,8 +497,10 @@ public abstract class PaneContainer
 			}
 			// and send a focus lost event to the old component
 			if (oldFocused != null) {
+				oldFocused.markDirty();
 				oldFocused.fireEvent(FocusLostEvent.class, oldFocused);
 			}
+			focusedComponent.markDirty();
 		}
 	}
 	
@@ -336,8 +543,10 @@ public abstract class PaneContainer
 			}
 			// and send a focus lost event to the old component
 			if (oldFocused != null) {
+				oldFocused.markDirty();
 				oldFocused.fireEvent(FocusLostEvent.class, oldFocused);
 			}
+			focusedComponent.markDirty();
 		}
 	}
 	
@@ -1,7 +1,8 @@
 package gminers.glasspane.component;
 
 
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,9 +30,15 @@ public class PaneGradientBox
 		this.color2 = color2;
 	}
 	
+	public void setColor2(final int color2) {
+		this.color2 = color2;
+		markDirty();
+	}
+	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
-		Rendering.drawGradientRect(0, 0, width, height, color, color2, 0);
+		final PaneRenderer pr = RenderBackend.getRenderer();
+		pr.drawGradientRect(0, 0, width, height, color, color2);
 	}
 	
 	/**
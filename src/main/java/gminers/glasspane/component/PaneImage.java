@@ -1,13 +1,13 @@
 package gminers.glasspane.component;
 
 
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
-import net.minecraft.client.Minecraft;
 import net.minecraft.util.ResourceLocation;
 
 import org.lwjgl.opengl.GL11;
@@ -59,6 +59,41 @@ public class PaneImage
 		this.image = image;
 	}
 	
+	public void setImage(final ResourceLocation image) {
+		this.image = image;
+		markDirty();
+	}
+	
+	public void setU(final int u) {
+		this.u = u;
+		markDirty();
+	}
+	
+	public void setV(final int v) {
+		this.v = v;
+		markDirty();
+	}
+	
+	public void setImageWidth(final int imageWidth) {
+		this.imageWidth = imageWidth;
+		markDirty();
+	}
+	
+	public void setImageHeight(final int imageHeight) {
+		this.imageHeight = imageHeight;
+		markDirty();
+	}
+	
+	public void setAlpha(final float alpha) {
+		this.alpha = alpha;
+		markDirty();
+	}
+	
+	public void setOneBitTransparency(final boolean oneBitTransparency) {
+		this.oneBitTransparency = oneBitTransparency;
+		markDirty();
+	}
+	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
 		render(image, 0, 0, u, v, width, height, imageWidth, imageHeight, color, alpha, oneBitTransparency);
@@ -67,30 +102,31 @@ public class PaneImage
 	public static void render(ResourceLocation image, int x, int y, int u, int v, int width, int height,
 			int imageWidth, int imageHeight, int color, float alpha, boolean oneBitTransparency) {
 		if (image == null) return;
-		GL11.glPushMatrix();
-		GL11.glTranslatef(x, y, 0);
+		final PaneRenderer pr = RenderBackend.getRenderer();
+		pr.pushMatrix();
+		pr.translate(x, y, 0);
 		// bind the image texture
-		Minecraft.getMinecraft().renderEngine.bindTexture(image);
+		pr.bindTexture(image);
 		// apply a scale because for some asinine reason all textures in minecraft are 256x256
 		// there's probably a really good reason for it, but I don't fully understand OpenGL
-		GL11.glScalef(width / ((float) imageWidth), height / ((float) imageHeight), 0.0f);
+		pr.scale(width / ((float) imageWidth), height / ((float) imageHeight), 0.0f);
 		// if we want full transparency, enable blending
 		if (!oneBitTransparency) {
-			GL11.glEnable(GL11.GL_BLEND);
-			GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+			pr.setBlend(true);
+			pr.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
 		}
 		// apply the tint
 		final int r = color >> 16 & 255;
 		final int g = color >> 8 & 255;
 		final int b = color & 255;
-		GL11.glColor4f(r / 255f, g / 255f, b / 255f, alpha);
+		pr.color(r / 255f, g / 255f, b / 255f, alpha);
 		// and finally render it
-		Rendering.drawTexturedModalRect(0, 0, u, v, imageWidth, imageHeight, 0);
+		pr.drawTexturedRect(0, 0, u, v, imageWidth, imageHeight);
 		// then disable blending if we enabled it for full transparency
 		if (!oneBitTransparency) {
-			GL11.glDisable(GL11.GL_BLEND);
+			pr.setBlend(false);
 		}
-		GL11.glPopMatrix();
+		pr.popMatrix();
 	}
 	
 }
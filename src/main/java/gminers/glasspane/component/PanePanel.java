@@ -3,7 +3,8 @@ package gminers.glasspane.component;
 
 import gminers.glasspane.HorzAlignment;
 import gminers.glasspane.VertAlignment;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,8 +13,6 @@ import lombok.experimental.FieldDefaults;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 
-import org.lwjgl.opengl.GL11;
-
 
 /**
  * Implements a basic container that can have a border (with text!) displayed around it's contents.
@@ -67,8 +66,54 @@ public class PanePanel
 	 */
 	boolean showBorder = true;
 	
+	public void setBorderAlignmentX(final HorzAlignment borderAlignmentX) {
+		this.borderAlignmentX = borderAlignmentX;
+		markDirty();
+	}
+	
+	public void setBorderAlignmentY(final VertAlignment borderAlignmentY) {
+		this.borderAlignmentY = borderAlignmentY;
+		markDirty();
+	}
+	
+	public void setRenderer(final FontRenderer renderer) {
+		this.renderer = renderer;
+		markDirty();
+	}
+	
+	public void setBorderText(final String borderText) {
+		this.borderText = borderText;
+		markDirty();
+	}
+	
+	public void setBorderThickness(final int borderThickness) {
+		this.borderThickness = borderThickness;
+		markDirty();
+	}
+	
+	public void setBorderColor(final int borderColor) {
+		this.borderColor = borderColor;
+		markDirty();
+	}
+	
+	public void setBorderShadow(final boolean borderShadow) {
+		this.borderShadow = borderShadow;
+		markDirty();
+	}
+	
+	public void setBorderTextShadow(final boolean borderTextShadow) {
+		this.borderTextShadow = borderTextShadow;
+		markDirty();
+	}
+	
+	public void setShowBorder(final boolean showBorder) {
+		this.showBorder = showBorder;
+		markDirty();
+	}
+	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// if we're drawing a border, do a bunch of super complicated awesome
 		if (showBorder) {
 			// precalc the border offsets
@@ -107,7 +152,7 @@ public class PanePanel
 					// draw the other 3 sides
 					drawDefaultBorder(percievedWidth, percievedHeight, borderOffsetYH, false, true, true, true);
 					// draw the text
-					renderer.drawString(borderText, textX, 0, borderColor, borderTextShadow);
+					pr.drawString(renderer, borderText, textX, 0, borderColor, borderTextShadow);
 				} else if (borderAlignmentY == VertAlignment.BOTTOM) {
 					// if it's the bottom, draw a border like so
 					
@@ -119,7 +164,7 @@ public class PanePanel
 					drawRect((textX + textWidth) + 2, percievedHeight - (borderOffsetYH), percievedWidth,
 							(percievedHeight - (borderOffsetYH)) + borderThickness, borderColor | 0xFF000000);
 					// draw the text
-					renderer.drawString(borderText, textX, percievedHeight - renderer.FONT_HEIGHT, borderColor,
+					pr.drawString(renderer, borderText, textX, percievedHeight - renderer.FONT_HEIGHT, borderColor,
 							borderTextShadow);
 				} else {
 					// we can't draw a middle-aligned Y, so just draw the default as a fallback
@@ -131,13 +176,9 @@ public class PanePanel
 				drawDefaultBorder(percievedWidth, percievedHeight, borderOffsetYH, true, true, true, true);
 			}
 			// perform the translation
-			GL11.glTranslatef(borderOffsetX, borderOffsetY, 0);
+			pr.translate(borderOffsetX, borderOffsetY, 0);
 			// render the components
-			final int pX = getPX();
-			final int pY = getPY();
-			for (final PaneComponent pc : components) {
-				pc.render(mouseX - pX, mouseY - pY, partialTicks);
-			}
+			renderChildren(mouseX, mouseY, partialTicks);
 		} else {
 			// otherwise, just call super
 			super.doRender(mouseX, mouseY, partialTicks);
@@ -162,11 +203,12 @@ public class PanePanel
 	}
 	
 	private void drawRect(final int x1, final int y1, final int x2, final int y2, final int color) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		if (borderShadow) {
 			final int shadowColor = (color & 16579836) >> 2 | color & -16777216;
-			Rendering.drawRect(x1 + 1, y1 + 1, x2 + 1, y2 + 1, shadowColor);
+			pr.drawRect(x1 + 1, y1 + 1, x2 + 1, y2 + 1, shadowColor);
 		}
-		Rendering.drawRect(x1, y1, x2, y2, color);
+		pr.drawRect(x1, y1, x2, y2, color);
 	}
 	
 	@Override
@@ -5,13 +5,13 @@ import gminers.glasspane.PaneBB;
 import gminers.glasspane.event.KeyTypedEvent;
 import gminers.glasspane.event.MouseWheelEvent;
 import gminers.glasspane.listener.PaneEventHandler;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.Getter;
 import lombok.Setter;
 
 import org.apache.commons.lang3.Validate;
 import org.lwjgl.input.Keyboard;
-import org.lwjgl.opengl.GL11;
 
 
 /**
@@ -34,10 +34,11 @@ public class PaneScrollPanel
 	 */
 	@Getter @Setter private int shadowDepth = 3;
 	
-	@SuppressWarnings("deprecation")
 	public PaneScrollPanel() {
-		// Workaround: Scroll Panel causes horrible white flickering when it's not clipped to size. I don't know why.
+		// anything scrolled partway out of view has to be cut off at our edges
 		setClipToSize(true);
+		// scrolling moves everything around all the time
+		setRenderLive(true);
 	}
 	
 	@PaneEventHandler
@@ -110,31 +111,23 @@ public class PaneScrollPanel
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		final int col = 0x88000000;
 		if (shadowed) {
-			Rendering.drawRect(0, 0, width, height, col);
+			pr.drawRect(0, 0, width, height, col);
 		}
 		final float ofs = (float) (Math.floor(offset * 2f) / 2f);
-		final int iOfs = (int) offset;
-		final int pX = getPX();
-		final int pY = getPY();
-		GL11.glPushMatrix();
-		GL11.glTranslatef(0, ofs, 0);
-		for (final PaneComponent pc : components) {
-			if (intersects(goat.mimic(pc).translate(x, iOfs + y))) {
-				pc.render(mouseX - pX, (mouseY - pY), partialTicks);
-			}
-		}
-		GL11.glPopMatrix();
+		pr.pushMatrix();
+		pr.translate(0, ofs, 0);
+		// getPY has the scroll offset in it, so anything scrolled out of view is culled
+		renderChildren(mouseX, mouseY, partialTicks);
+		pr.popMatrix();
+		// the clip stack puts our scissor box back after our children are done with it, so this stays inside us
 		if (shadowed) {
-			GL11.glDisable(GL11.GL_SCISSOR_TEST);
-			Rendering.drawGradientRect(0, 0, width, shadowDepth, 0xFF000000, 0x00000000, 0);
-			Rendering.drawGradientRect(0, height - shadowDepth, width, height, 0x00000000, 0xFF000000, 0);
-			GL11.glEnable(GL11.GL_SCISSOR_TEST);
+			pr.drawGradientRect(0, 0, width, shadowDepth, 0xFF000000, 0x00000000);
+			pr.drawGradientRect(0, height - shadowDepth, width, height, 0x00000000, 0xFF000000);
 		}
-		GL11.glScissor(getAbsoluteX(getGlassPane().getWidth()), getAbsoluteY(getGlassPane().getHeight()),
-				getAbsoluteWidth(getGlassPane().getWidth()), getAbsoluteHeight(getGlassPane().getHeight()));
-		Rendering.drawRect(width - 4, 0, width, height, col);
+		pr.drawRect(width - 4, 0, width, height, col);
 		final int diff = getMaximumChildEdgeY() - getMinimumChildY();
 		float percentage = -offset / diff;
 		if (Float.isInfinite(percentage) || Float.isNaN(percentage)) {
@@ -147,7 +140,7 @@ public class PaneScrollPanel
 			segHeight = 1;
 		}
 		final int segY = (int) (Math.floor((barHeight * percentage) * 2f) / 2f);
-		Rendering.drawRect(width - 3, segY + 1, width - 1, segY + 1 + segHeight, 0x88FFFFFF);
+		pr.drawRect(width - 3, segY + 1, width - 1, segY + 1 + segHeight, 0x88FFFFFF);
 	}
 	
 	@Override
@@ -1,11 +1,9 @@
 package gminers.glasspane.component;
 
 
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.Getter;
-import lombok.Setter;
-
-import org.lwjgl.opengl.GL11;
 
 
 /**
@@ -20,20 +18,26 @@ public class PaneShadowPanel
 	/**
 	 * The depth of the shadow, if enabled.
 	 */
-	@Getter @Setter private int shadowDepth = 3;
+	@Getter private int shadowDepth = 3;
 	
 	public PaneShadowPanel() {
 		setShowBorder(false);
 	}
 	
+	public void setShadowDepth(final int shadowDepth) {
+		this.shadowDepth = shadowDepth;
+		markDirty();
+	}
+	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		final int col = 0x88000000;
-		GL11.glPushMatrix();
-		Rendering.drawRect(0, 0, width, height, col);
-		Rendering.drawGradientRect(0, 0, width, shadowDepth, 0xFF000000, 0x00000000, 0);
-		Rendering.drawGradientRect(0, height - shadowDepth, width, height, 0x00000000, 0xFF000000, 0);
-		GL11.glPopMatrix();
+		pr.pushMatrix();
+		pr.drawRect(0, 0, width, height, col);
+		pr.drawGradientRect(0, 0, width, shadowDepth, 0xFF000000, 0x00000000);
+		pr.drawGradientRect(0, height - shadowDepth, width, height, 0x00000000, 0xFF000000);
+		pr.popMatrix();
 		super.doRender(mouseX, mouseY, partialTicks);
 	}
 }
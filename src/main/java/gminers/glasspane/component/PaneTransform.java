@@ -0,0 +1,134 @@
+package gminers.glasspane.component;
+
+
+import lombok.Getter;
+import lombok.ToString;
+
+
+/**
+ * A 2D affine transform, as in a translation, rotation, scale or any mix of them. Maps a point from one component's coordinates to
+ * another's, or to the screen's.<br/>
+ * Components rotated around an axis other than Z really rotate in 3D, but since the screen's flat, their transform only keeps the part
+ * that moves things around on it.
+ */
+@Getter
+@ToString
+public final class PaneTransform {
+	/**
+	 * The transform, as a 2x3 matrix - <code>x' = m00 * x + m01 * y + m02</code>, and <code>y' = m10 * x + m11 * y + m12</code>.
+	 */
+	float m00 = 1, m01 = 0, m02 = 0;
+	float m10 = 0, m11 = 1, m12 = 0;
+	
+	/**
+	 * @return The X coordinate the passed point ends up at.
+	 */
+	public float transformX(final float x, final float y) {
+		return m00 * x + m01 * y + m02;
+	}
+	
+	/**
+	 * @return The Y coordinate the passed point ends up at.
+	 */
+	public float transformY(final float x, final float y) {
+		return m10 * x + m11 * y + m12;
+	}
+	
+	/**
+	 * @return <code>true</code> if this transform only moves things, so a rectangle is still the same rectangle afterward.
+	 */
+	public boolean isTranslation() {
+		return m00 == 1 && m01 == 0 && m10 == 0 && m11 == 1;
+	}
+	
+	void setIdentity() {
+		m00 = 1;
+		m01 = 0;
+		m02 = 0;
+		m10 = 0;
+		m11 = 1;
+		m12 = 0;
+	}
+	
+	void set(final PaneTransform t) {
+		m00 = t.m00;
+		m01 = t.m01;
+		m02 = t.m02;
+		m10 = t.m10;
+		m11 = t.m11;
+		m12 = t.m12;
+	}
+	
+	/**
+	 * Adds a translation before this transform, like glTranslatef.
+	 */
+	void translate(final float x, final float y) {
+		m02 += m00 * x + m01 * y;
+		m12 += m10 * x + m11 * y;
+	}
+	
+	/**
+	 * Makes this the transform a component's rendering applies: a translation to x, y, and then a rotation of angle degrees around the
+	 * passed axis, same as glRotatef.
+	 */
+	void setTranslateRotate(final float x, final float y, final float angle, final float xAxis, final float yAxis,
+			final float zAxis) {
+		setIdentity();
+		m02 = x;
+		m12 = y;
+		final float len = (float) Math.sqrt(xAxis * xAxis + yAxis * yAxis + zAxis * zAxis);
+		if (angle == 0 || len == 0) return;
+		final float ax = xAxis / len;
+		final float ay = yAxis / len;
+		final float az = zAxis / len;
+		final float rad = (float) Math.toRadians(angle);
+		final float c = (float) Math.cos(rad);
+		final float s = (float) Math.sin(rad);
+		final float t = 1 - c;
+		// just the part of glRotatef's matrix that maps x and y to x and y
+		m00 = ax * ax * t + c;
+		m01 = ax * ay * t - az * s;
+		m10 = ay * ax * t + az * s;
+		m11 = ay * ay * t + c;
+	}
+	
+	/**
+	 * Makes this <code>a</code> followed by <code>b</code> - or rather, <code>a * b</code>, so b is applied to a point first.
+	 */
+	void multiply(final PaneTransform a, final PaneTransform b) {
+		final float n00 = a.m00 * b.m00 + a.m01 * b.m10;
+		final float n01 = a.m00 * b.m01 + a.m01 * b.m11;
+		final float n02 = a.m00 * b.m02 + a.m01 * b.m12 + a.m02;
+		final float n10 = a.m10 * b.m00 + a.m11 * b.m10;
+		final float n11 = a.m10 * b.m01 + a.m11 * b.m11;
+		final float n12 = a.m10 * b.m02 + a.m11 * b.m12 + a.m12;
+		m00 = n00;
+		m01 = n01;
+		m02 = n02;
+		m10 = n10;
+		m11 = n11;
+		m12 = n12;
+	}
+	
+	/**
+	 * Makes this the inverse of the passed transform.
+	 * 
+	 * @return <code>false</code> if it can't be inverted, because it squashes everything flat (like a component rotated 90 degrees around
+	 *         the X axis). This transform is left alone in that case.
+	 */
+	boolean invert(final PaneTransform t) {
+		final float det = t.m00 * t.m11 - t.m01 * t.m10;
+		if (Math.abs(det) < 1.0E-6f) return false;
+		final float n00 = t.m11 / det;
+		final float n01 = -t.m01 / det;
+		final float n10 = -t.m10 / det;
+		final float n11 = t.m00 / det;
+		m02 = -(n00 * t.m02 + n01 * t.m12);
+		m12 = -(n10 * t.m02 + n11 * t.m12);
+		m00 = n00;
+		m01 = n01;
+		m10 = n10;
+		m11 = n11;
+		return true;
+	}
+}
@@ -0,0 +1,111 @@
+package gminers.glasspane.component;
+
+
+import gminers.glasspane.GlassPane;
+
+
+/**
+ * A component's transforms, kept around between frames. Everything in here is only worked out again when something it depends on
+ * changes - the local transform when the component moves, is translated, or is rotated, and the screen transform when the local one
+ * changes or any parent's does. Checking that is just a few comparisons per parent, which is a lot cheaper than multiplying everything
+ * out again.
+ */
+final class TransformCache {
+	/**
+	 * Bumped every time any component is added to or removed from any container, so cached hierarchy lookups know to look again.
+	 */
+	static int hierarchyVersion = 0;
+	
+	// from the component's coordinates to it's parent's children's coordinates
+	final PaneTransform local = new PaneTransform();
+	final PaneTransform localInverse = new PaneTransform();
+	boolean localInvertible = true;
+	// from the component's coordinates to the screen's
+	final PaneTransform screen = new PaneTransform();
+	final PaneTransform screenInverse = new PaneTransform();
+	boolean screenInvertible = true;
+	/**
+	 * Bumped every time the screen transform changes, so children know theirs has to change too.
+	 */
+	int version = 0;
+	
+	// what the local transform was worked out from
+	private boolean localKnown = false;
+	float x, y;
+	private float translateX, translateY, angle, xRot, yRot, zRot;
+	// what the screen transform was worked out from, on top of the local one
+	private boolean screenKnown = false;
+	private PaneContainer parent;
+	private int parentVersion;
+	private float originX, originY;
+	
+	// the cached result of getGlassPane
+	GlassPane pane = null;
+	int paneVersion = -1;
+	
+	/**
+	 * Brings the local transform up to date with the passed component.
+	 * 
+	 * @return <code>true</code> if it changed.
+	 */
+	boolean validateLocal(final PaneComponent c) {
+		// panes are the screen, so their position doesn't move anything
+		final boolean pane = c instanceof GlassPane;
+		final float x = pane ? 0 : c.getX();
+		final float y = pane ? 0 : c.getY();
+		final float translateX = c.getTranslateX();
+		final float translateY = c.getTranslateY();
+		final float angle = c.isRotationAllowed() ? c.getAngle() : 0;
+		final float xRot = c.getXRot();
+		final float yRot = c.getYRot();
+		final float zRot = c.getZRot();
+		if (localKnown && x == this.x && y == this.y && translateX == this.translateX && translateY == this.translateY
+				&& angle == this.angle && xRot == this.xRot && yRot == this.yRot && zRot == this.zRot) return false;
+		this.x = x;
+		this.y = y;
+		this.translateX = translateX;
+		this.translateY = translateY;
+		this.angle = angle;
+		this.xRot = xRot;
+		this.yRot = yRot;
+		this.zRot = zRot;
+		local.setTranslateRotate(x + translateX, y + translateY, angle, xRot, yRot, zRot);
+		localInvertible = localInverse.invert(local);
+		localKnown = true;
+		return true;
+	}
+	
+	/**
+	 * Brings the local and screen transforms up to date with the passed component, and all of it's parents.
+	 */
+	void validate(final PaneComponent c) {
+		final boolean localChanged = validateLocal(c);
+		final PaneContainer parent = c.getParent();
+		TransformCache parentCache = null;
+		float originX = 0, originY = 0;
+		int parentVersion = 0;
+		if (parent != null) {
+			parentCache = parent.validateTransform();
+			// where the parent draws it's children, relative to it's own top left corner
+			originX = parent.getPX() - parent.getX();
+			originY = parent.getPY() - parent.getY();
+			parentVersion = parentCache.version;
+		}
+		if (screenKnown && !localChanged && parent == this.parent && parentVersion == this.parentVersion
+				&& originX == this.originX && originY == this.originY) return;
+		this.parent = parent;
+		this.parentVersion = parentVersion;
+		this.originX = originX;
+		this.originY = originY;
+		if (parentCache == null) {
+			screen.set(local);
+		} else {
+			screen.set(parentCache.screen);
+			screen.translate(originX, originY);
+			screen.multiply(screen, local);
+		}
+		screenInvertible = screenInverse.invert(screen);
+		screenKnown = true;
+		version++;
+	}
+}
@@ -8,7 +8,8 @@ import gminers.glasspane.component.text.PaneLabel;
 import gminers.glasspane.event.ComponentActivateEvent;
 import gminers.glasspane.event.FocusGainedEvent;
 import gminers.glasspane.listener.PaneEventHandler;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 import java.util.List;
 
@@ -23,7 +24,6 @@ import net.minecraft.util.ResourceLocation;
 
 import org.apache.commons.lang3.Validate;
 import org.lwjgl.input.Mouse;
-import org.lwjgl.opengl.GL11;
 
 import com.google.common.collect.Lists;
 
@@ -57,6 +57,8 @@ public class PaneButton
 	 * The color of the text of this button when hovering.
 	 */
 	int hoveredColor = 0xFFFFA0;
+	// whether the mouse was over us last tick, so we know when to draw the hover state
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private boolean hovered = false;
 	
 	public PaneButton() {
 		this("Button");
@@ -69,11 +71,17 @@ public class PaneButton
 		alignmentY = VertAlignment.MIDDLE;
 		width = 200;
 		height = 20;
+		setRenderLive(true);
 	}
 	
 	@Override
 	protected void doTick() {
 		super.doTick();
+		final boolean hovered = Mouse.isInsideWindow() && withinBounds(mouseX, mouseY);
+		if (hovered != this.hovered) {
+			this.hovered = hovered;
+			markDirty();
+		}
 		// if we're disabled and focused, drop the focus
 		if (!enabled) {
 			if (getParent() != null) {
@@ -86,6 +94,7 @@ public class PaneButton
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// determine the u and v offsets we want
 		final int u = 0;
 		int v = 0;
@@ -100,7 +109,7 @@ public class PaneButton
 			}
 		}
 		// bind the widgets file
-		Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+		pr.bindTexture(RESOURCE);
 		
 		// unpack the button color
 		int r = buttonColor >> 16 & 255;
@@ -113,11 +122,11 @@ public class PaneButton
 		}
 		
 		// apply the button color
-		GL11.glColor3f(r / 255f, g / 255f, b / 255f);
+		pr.color(r / 255f, g / 255f, b / 255f, 1.0f);
 		renderStretchyTexturedRect(0, 0, u, v, width, height, 220, 40);
 		
 		// if we're focused, draw a blue border over the normal black one
-		GL11.glTranslatef(0, 0, 0.001f);
+		pr.translate(0, 0, 0.001f);
 		if (getParent() != null) {
 			if (getParent().getFocusedComponent() == this) {
 				final int fv = 200;
@@ -132,7 +141,7 @@ public class PaneButton
 			color = hoveredColor;
 		}
 		// render the label
-		GL11.glTranslatef(0, 0, 0.001f);
+		pr.translate(0, 0, 0.001f);
 		if (alignmentX == HorzAlignment.RIGHT && !text.endsWith(" ")) {
 			text = text + " ";
 		} else if (alignmentX == HorzAlignment.LEFT && !text.startsWith(" ")) {
@@ -142,6 +151,26 @@ public class PaneButton
 		color = trueColor;
 	}
 	
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+		markDirty();
+	}
+	
+	public void setButtonColor(final int buttonColor) {
+		this.buttonColor = buttonColor;
+		markDirty();
+	}
+	
+	public void setDisabledColor(final int disabledColor) {
+		this.disabledColor = disabledColor;
+		markDirty();
+	}
+	
+	public void setHoveredColor(final int hoveredColor) {
+		this.hoveredColor = hoveredColor;
+		markDirty();
+	}
+	
 	@Override
 	public String getText() {
 		if (alignmentX == HorzAlignment.RIGHT && text.endsWith(" "))
@@ -193,18 +222,19 @@ public class PaneButton
 	
 	public static void renderStretchyTexturedRect(int x, int y, int u, int v, int width, int height, int texWidth,
 			int texHeight) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		int hWidth = width / 2;
 		int hHeight = height / 2;
 		// render the button - this method of rendering gives buttons a max sensible size of 436x84 (for a 220x40 texture)
 		// for comparison, a GuiButton can only go up to 390x30
 		
 		// rendering nine-patch style with a tiled center would allow theoretically infinite button sizes, but that's unnecessary
-		Rendering.drawTexturedModalRect(x, y, u, v, hWidth, hHeight, 0);
-		Rendering.drawTexturedModalRect(x + hWidth, y, u + (texWidth - hWidth), v, hWidth, hHeight, 0);
+		pr.drawTexturedRect(x, y, u, v, hWidth, hHeight);
+		pr.drawTexturedRect(x + hWidth, y, u + (texWidth - hWidth), v, hWidth, hHeight);
 		
-		Rendering.drawTexturedModalRect(x, y + hHeight, u, v + (texHeight - hHeight), hWidth, hHeight, 0);
-		Rendering.drawTexturedModalRect(x + hWidth, y + hHeight, u + (texWidth - hWidth), v + (texHeight - hHeight),
-				hWidth, hHeight, 0);
+		pr.drawTexturedRect(x, y + hHeight, u, v + (texHeight - hHeight), hWidth, hHeight);
+		pr.drawTexturedRect(x + hWidth, y + hHeight, u + (texWidth - hWidth), v + (texHeight - hHeight),
+				hWidth, hHeight);
 	}
 	
 	/**
@@ -2,10 +2,8 @@ package gminers.glasspane.component.button;
 
 
 import gminers.glasspane.HorzAlignment;
-import gminers.kitchensink.Rendering;
-import net.minecraft.client.Minecraft;
-
-import org.lwjgl.opengl.GL11;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 
 /**
@@ -36,8 +34,13 @@ public class PaneCheckBox
 	@Override
 	protected void doTick() {
 		super.doTick();
-		height = Math.max(10, getLineCount() * (renderer.FONT_HEIGHT + lineSpacing));
-		width = getLongestLineWidth() + 12;
+		final int height = Math.max(10, getLineCount() * (renderer.FONT_HEIGHT + lineSpacing));
+		final int width = getLongestLineWidth() + 12;
+		if (height != this.height || width != this.width) {
+			this.height = height;
+			this.width = width;
+			markDirty();
+		}
 	}
 	
 	/**
@@ -58,6 +61,7 @@ public class PaneCheckBox
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// determine the u and v offsets we want
 		int v = 0;
 		final boolean hover = withinBounds(mouseX, mouseY);
@@ -71,7 +75,7 @@ public class PaneCheckBox
 			}
 		}
 		// bind the widgets file
-		Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+		pr.bindTexture(RESOURCE);
 		
 		// unpack the button color
 		final int r = buttonColor >> 16 & 255;
@@ -79,20 +83,20 @@ public class PaneCheckBox
 		final int b = buttonColor & 255;
 		
 		// apply the button color
-		GL11.glColor3f(r / 255f, g / 255f, b / 255f);
+		pr.color(r / 255f, g / 255f, b / 255f, 1.0f);
 		// render the button
-		Rendering.drawTexturedModalRect(0, 0, u, v, 10, 10, 0);
+		pr.drawTexturedRect(0, 0, u, v, 10, 10);
 		// if we're selected, draw the selected overlay
 		if (selected) {
-			Rendering.drawTexturedModalRect(0, 0, u, v + 50, 10, 10, 0);
+			pr.drawTexturedRect(0, 0, u, v + 50, 10, 10);
 		}
 		
 		// if we're focused, draw a blue border over the normal black one
-		GL11.glTranslatef(0, 0, 0.001f);
+		pr.translate(0, 0, 0.001f);
 		if (getParent() != null) {
 			if (getParent().getFocusedComponent() == this) {
-				GL11.glColor3f(1.0f, 1.0f, 1.0f);
-				Rendering.drawTexturedModalRect(0, 0, u, v + 100, 10, 10, 0);
+				pr.color(1.0f, 1.0f, 1.0f, 1.0f);
+				pr.drawTexturedRect(0, 0, u, v + 100, 10, 10);
 			}
 		}
 		// change the label's color, if needed
@@ -103,7 +107,7 @@ public class PaneCheckBox
 			color = hoveredColor;
 		}
 		// render the label
-		GL11.glTranslatef(12f, 0, 0.001f);
+		pr.translate(12f, 0, 0.001f);
 		labelRender(mouseX, mouseY, partialTicks);
 		color = trueColor;
 	}
@@ -2,13 +2,13 @@ package gminers.glasspane.component.button;
 
 
 import gminers.glasspane.HorzAlignment;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
-import net.minecraft.client.Minecraft;
 import net.minecraft.util.ResourceLocation;
 
 import org.lwjgl.input.Mouse;
@@ -89,8 +89,84 @@ public class PaneImageButton
 	 */
 	HorzAlignment imageAlignment = HorzAlignment.LEFT;
 	
+	public void setImage(final ResourceLocation image) {
+		this.image = image;
+		markDirty();
+	}
+	
+	public void setImageHover(final ResourceLocation imageHover) {
+		this.imageHover = imageHover;
+		markDirty();
+	}
+	
+	public void setImageDisabled(final ResourceLocation imageDisabled) {
+		this.imageDisabled = imageDisabled;
+		markDirty();
+	}
+	
+	public void setU(final int u) {
+		this.u = u;
+		markDirty();
+	}
+	
+	public void setV(final int v) {
+		this.v = v;
+		markDirty();
+	}
+	
+	public void setImagePortionWidth(final int imagePortionWidth) {
+		this.imagePortionWidth = imagePortionWidth;
+		markDirty();
+	}
+	
+	public void setImagePortionHeight(final int imagePortionHeight) {
+		this.imagePortionHeight = imagePortionHeight;
+		markDirty();
+	}
+	
+	public void setAlpha(final float alpha) {
+		this.alpha = alpha;
+		markDirty();
+	}
+	
+	public void setOneBitTransparency(final boolean oneBitTransparency) {
+		this.oneBitTransparency = oneBitTransparency;
+		markDirty();
+	}
+	
+	public void setImageColor(final int imageColor) {
+		this.imageColor = imageColor;
+		markDirty();
+	}
+	
+	public void setImageHoverColor(final int imageHoverColor) {
+		this.imageHoverColor = imageHoverColor;
+		markDirty();
+	}
+	
+	public void setImageDisabledColor(final int imageDisabledColor) {
+		this.imageDisabledColor = imageDisabledColor;
+		markDirty();
+	}
+	
+	public void setImageWidth(final int imageWidth) {
+		this.imageWidth = imageWidth;
+		markDirty();
+	}
+	
+	public void setImageHeight(final int imageHeight) {
+		this.imageHeight = imageHeight;
+		markDirty();
+	}
+	
+	public void setImageAlignment(final HorzAlignment imageAlignment) {
+		this.imageAlignment = imageAlignment;
+		markDirty();
+	}
+	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		super.doRender(mouseX, mouseY, partialTicks);
 		if (image == null) return;
 		// apply a transform
@@ -100,13 +176,13 @@ public class PaneImageButton
 		} else if (imageAlignment == HorzAlignment.RIGHT) {
 			imgX = (width - imageWidth) - 2;
 		}
-		GL11.glTranslatef(imgX, 2, 0);
+		pr.translate(imgX, 2, 0);
 		// apply a scale because for some asinine reason all textures in minecraft are 256x256
-		GL11.glScalef(imageWidth / ((float) imagePortionWidth), imageHeight / ((float) imagePortionHeight), 0.0f);
+		pr.scale(imageWidth / ((float) imagePortionWidth), imageHeight / ((float) imagePortionHeight), 0.0f);
 		// if we want full transparency, enable blending
 		if (!oneBitTransparency) {
-			GL11.glEnable(GL11.GL_BLEND);
-			GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+			pr.setBlend(true);
+			pr.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
 		}
 		int color;
 		final boolean hover = Mouse.isInsideWindow() && withinBounds(mouseX, mouseY);
@@ -127,17 +203,17 @@ public class PaneImageButton
 			image = this.image;
 		}
 		// bind the image texture
-		Minecraft.getMinecraft().renderEngine.bindTexture(image);
+		pr.bindTexture(image);
 		// apply the tint
 		final int r = color >> 16 & 255;
 		final int g = color >> 8 & 255;
 		final int b = color & 255;
-		GL11.glColor4f(r / 255f, g / 255f, b / 255f, alpha);
+		pr.color(r / 255f, g / 255f, b / 255f, alpha);
 		// and finally render it
-		Rendering.drawTexturedModalRect(0, 0, u, v, imagePortionWidth, imagePortionHeight, 0);
+		pr.drawTexturedRect(0, 0, u, v, imagePortionWidth, imagePortionHeight);
 		// then disable blending if we enabled it for full transparency
 		if (!oneBitTransparency) {
-			GL11.glDisable(GL11.GL_BLEND);
+			pr.setBlend(false);
 		}
 	}
 }
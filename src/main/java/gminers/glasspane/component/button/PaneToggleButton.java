@@ -44,6 +44,7 @@ public class PaneToggleButton
 		final boolean oldSelected = this.selected;
 		this.selected = selected;
 		if (oldSelected != this.selected) {
+			markDirty();
 			fireEvent(StateChangedEvent.class, this);
 		}
 	}
@@ -52,6 +53,7 @@ public class PaneToggleButton
 	public void onActivateForToggle(final ComponentActivateEvent e) {
 		if (enabled) {
 			selected = !selected;
+			markDirty();
 			fireEvent(StateChangedEvent.class, this);
 		}
 	}
@@ -34,6 +34,7 @@ public class RadioButtonGroup {
 			}
 			if (selected == button) {
 				selected = null;
+				button.markDirty();
 			}
 			buttons.remove(button);
 		}
@@ -64,7 +65,7 @@ public class RadioButtonGroup {
 	 * Deselects the currently selected radio button.
 	 */
 	public void deselect() {
-		selected = null;
+		select0(null);
 	}
 	
 	/**
@@ -75,7 +76,18 @@ public class RadioButtonGroup {
 	 */
 	public void select(final PaneRadioButton button) {
 		if (buttons.contains(button)) {
-			selected = button;
+			select0(button);
+		}
+	}
+	
+	private void select0(final PaneRadioButton button) {
+		// the buttons only notice when they're next drawn, so tell both of them they look different now
+		if (selected != null) {
+			selected.markDirty();
+		}
+		selected = button;
+		if (button != null) {
+			button.markDirty();
 		}
 	}
 	
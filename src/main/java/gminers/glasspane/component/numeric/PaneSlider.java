@@ -8,6 +8,8 @@ import gminers.glasspane.component.Focusable;
 import gminers.glasspane.component.button.PaneButton;
 import gminers.glasspane.component.text.PaneLabel;
 import gminers.glasspane.event.StateChangedEvent;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,6 +36,7 @@ public class PaneSlider
 		implements Focusable {
 	public PaneSlider() {
 		setText("Slider");
+		setRenderLive(true);
 		setWidth(427);
 		setHeight(20);
 		setAlignmentX(HorzAlignment.MIDDLE);
@@ -79,19 +82,66 @@ public class PaneSlider
 	int knobLength = 8;
 	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private float stretch = 0f;
 	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private float stretchTarget = 0f;
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private boolean hovered = false;
+	
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+		markDirty();
+	}
+	
+	public void setKnobColor(final int knobColor) {
+		this.knobColor = knobColor;
+		markDirty();
+	}
+	
+	public void setDisabledColor(final int disabledColor) {
+		this.disabledColor = disabledColor;
+		markDirty();
+	}
+	
+	public void setHoveredColor(final int hoveredColor) {
+		this.hoveredColor = hoveredColor;
+		markDirty();
+	}
+	
+	public void setValue(final int value) {
+		this.value = value;
+		markDirty();
+	}
+	
+	public void setMaximum(final int maximum) {
+		this.maximum = maximum;
+		markDirty();
+	}
+	
+	public void setRenderBackground(final boolean renderBackground) {
+		this.renderBackground = renderBackground;
+		markDirty();
+	}
+	
+	public void setDirection(final Direction direction) {
+		this.direction = direction;
+		markDirty();
+	}
+	
+	public void setKnobLength(final int knobLength) {
+		this.knobLength = knobLength;
+		markDirty();
+	}
 	
 	@Override
 	protected void doRender(int mouseX, int mouseY, float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// determine the u and v offsets we want
 		final int u = 0;
 		int v = 40;
 		final boolean hover = Mouse.isInsideWindow() && withinBounds(mouseX, mouseY);
 		// bind the widgets file
-		Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+		pr.bindTexture(RESOURCE);
 		boolean horz = (direction == Direction.HORIZONTAL);
 		if (renderBackground) {
-			GL11.glPushMatrix();
-			GL11.glColor3f(1.0f, 1.0f, 1.0f);
+			pr.pushMatrix();
+			pr.color(1.0f, 1.0f, 1.0f, 1.0f);
 			boolean focus = getParent() != null && getParent().getFocusedComponent() == this;
 			if (horz) {
 				PaneButton.renderStretchyTexturedRect(0, 0, u, 0, width, height, 220, 40);
@@ -99,14 +149,14 @@ public class PaneSlider
 					PaneButton.renderStretchyTexturedRect(0, 0, u, 200, width, height, 220, 40);
 				}
 			} else {
-				GL11.glTranslatef(width / 2f, height / 2f, 0);
-				GL11.glRotatef(90f, 0, 0, 1.0f);
+				pr.translate(width / 2f, height / 2f, 0);
+				pr.rotate(90f, 0, 0, 1.0f);
 				PaneButton.renderStretchyTexturedRect(-(height / 2), -(width / 2), u, 0, height, width, 220, 40);
 				if (focus) {
 					PaneButton.renderStretchyTexturedRect(-(height / 2), -(width / 2), u, 200, height, width, 220, 40);
 				}
 			}
-			GL11.glPopMatrix();
+			pr.popMatrix();
 		}
 		
 		// unpack the knob color
@@ -138,17 +188,17 @@ public class PaneSlider
 			knobWidth = width;
 			knobHeight = knobLength;
 		}
-		GL11.glPushMatrix();
-		GL11.glTranslatef(transX, transY, 0f);
-		GL11.glEnable(GL11.GL_BLEND);
-		GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-		GL11.glColor4f(r, g, b, 0.15f);
+		pr.pushMatrix();
+		pr.translate(transX, transY, 0f);
+		pr.setBlend(true);
+		pr.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+		pr.color(r, g, b, 0.15f);
 		PaneButton.renderStretchyTexturedRect(knobX, knobY, 0, v, knobWidth, knobHeight, 220, 40);
-		GL11.glDisable(GL11.GL_BLEND);
-		GL11.glPopMatrix();
+		pr.setBlend(false);
+		pr.popMatrix();
 		
 		// apply the knob color
-		GL11.glColor3f(r / 255f, g / 255f, b / 255f);
+		pr.color(r / 255f, g / 255f, b / 255f, 1.0f);
 		PaneButton.renderStretchyTexturedRect(knobX, knobY, 0, v, knobWidth, knobHeight, 220, 40);
 		
 		// change the label's color, if needed
@@ -159,7 +209,7 @@ public class PaneSlider
 			color = hoveredColor;
 		}
 		// render the label
-		GL11.glTranslatef(0, 0, 0.001f);
+		pr.translate(0, 0, 0.001f);
 		super.doRender(mouseX, mouseY, partialTicks);
 		color = trueColor;
 	}
@@ -168,6 +218,17 @@ public class PaneSlider
 	
 	@Override
 	protected void doTick() {
+		final boolean hovered = Mouse.isInsideWindow() && withinBounds(mouseX, mouseY);
+		final int oldValue = value;
+		final float oldStretch = stretch;
+		doTick0();
+		if (hovered != this.hovered || value != oldValue || stretch != oldStretch) {
+			this.hovered = hovered;
+			markDirty();
+		}
+	}
+	
+	private void doTick0() {
 		if (down) {
 			if (!enabled || !Mouse.isButtonDown(0)) {
 				down = false;
@@ -209,9 +270,11 @@ public class PaneSlider
 		super.mouseWheel(mouseX, mouseY, distance);
 		if (distance > 0 && value < maximum) {
 			value++;
+			markDirty();
 			fireEvent(StateChangedEvent.class, this);
 		} else if (distance < 0 && value > 0) {
 			value--;
+			markDirty();
 			fireEvent(StateChangedEvent.class, this);
 		}
 	}
@@ -4,6 +4,8 @@ package gminers.glasspane.component.numeric;
 import gminers.glasspane.component.ColorablePaneComponent;
 import gminers.glasspane.component.Focusable;
 import gminers.glasspane.component.button.PaneButton;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 import java.text.NumberFormat;
 
@@ -16,7 +18,6 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 
 import org.lwjgl.input.Keyboard;
-import org.lwjgl.opengl.GL11;
 
 
 @FieldDefaults(level = AccessLevel.PROTECTED)
@@ -46,16 +47,19 @@ public class PaneSpinner
 	
 	public PaneSpinner() {
 		setClipToSize(true);
+		setRenderLive(true);
 	}
 	
 	public PaneSpinner(final float value) {
 		this.value = value;
+		setRenderLive(true);
 	}
 	
 	public PaneSpinner(final float value, final float minimum, final float maximum) {
 		this.value = value;
 		this.minimum = minimum;
 		this.maximum = maximum;
+		setRenderLive(true);
 	}
 	
 	@Override
@@ -120,19 +124,20 @@ public class PaneSpinner
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// bind the widgets
-		Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+		pr.bindTexture(RESOURCE);
 		
 		// u and v, for convenient changing
 		final int u = 0;
 		final int v = 0;
 		
 		// set color
-		GL11.glColor3f(0.6f, 0.6f, 0.6f);
+		pr.color(0.6f, 0.6f, 0.6f, 1.0f);
 		PaneButton.renderStretchyTexturedRect(0, 0, u, v, width, height, 220, 40);
 		
 		// if we're focused, draw a blue border over the normal black one
-		GL11.glTranslatef(0, 0, 0.001f);
+		pr.translate(0, 0, 0.001f);
 		if (getParent() != null) {
 			if (getParent().getFocusedComponent() == this) {
 				final int fv = 200;
@@ -151,17 +156,17 @@ public class PaneSpinner
 		// if we're caught up, do a simple render
 		// also use clipToSize as an 'animation' flag
 		if (!isClipToSize() || next == cur) {
-			renderer.drawStringWithShadow(textCur, (width - 3) - renderer.getStringWidth(textCur), 2, color);
+			pr.drawString(renderer, textCur, (width - 3) - renderer.getStringWidth(textCur), 2, color, true);
 		} else {
-			GL11.glPushMatrix();
+			pr.pushMatrix();
 			if (next <= 0) {
-				GL11.glTranslatef(0, (height - 2) * (1.0f - dist), 0);
+				pr.translate(0, (height - 2) * (1.0f - dist), 0);
 			} else {
-				GL11.glTranslatef(0, (height - 2) * dist, 0);
+				pr.translate(0, (height - 2) * dist, 0);
 			}
-			renderer.drawStringWithShadow(textNex, (width - 3) - renderer.getStringWidth(textNex), -8, color);
-			renderer.drawStringWithShadow(textCur, (width - 3) - renderer.getStringWidth(textCur), 2, color);
-			GL11.glPopMatrix();
+			pr.drawString(renderer, textNex, (width - 3) - renderer.getStringWidth(textNex), -8, color, true);
+			pr.drawString(renderer, textCur, (width - 3) - renderer.getStringWidth(textCur), 2, color, true);
+			pr.popMatrix();
 		}
 	}
 }
@@ -1,7 +1,8 @@
 package gminers.glasspane.component.progress;
 
 
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import gminers.kitchensink.WaveType;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,8 +10,6 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 
-import org.lwjgl.opengl.GL11;
-
 
 /**
  * Implements a progress bar, used for displaying how complete an asynchronous long-running operation is. Or whatever other twisted uses you
@@ -80,24 +79,25 @@ public class PaneProgressBar
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		int perceivedWidth = width;
 		int perceivedHeight = height;
 		if (outlined) {
 			perceivedWidth -= 2;
 			perceivedHeight -= 2;
-			GL11.glTranslatef(1, 1, 0);
+			pr.translate(1, 1, 0);
 		}
-		Rendering.drawRect(0, 0, perceivedWidth, perceivedHeight, color | 0xFF000000);
+		pr.drawRect(0, 0, perceivedWidth, perceivedHeight, color | 0xFF000000);
 		if (indeterminate) {
 			final int segmentLength = (int) (perceivedWidth / indeterminateSegmentDivisor);
 			final double appl = (step + partialTicks) / indeterminateSegmentDivisor;
 			final int segmentX = segmentOffset(appl, perceivedWidth, segmentLength);
 			if (outlined) {
 				final int shadowColor = (indeterminateColor & 16579836) >> 2 | indeterminateColor & -16777216;
-				Rendering.drawRect(segmentX, -1, segmentX + segmentLength, perceivedHeight + 1,
+				pr.drawRect(segmentX, -1, segmentX + segmentLength, perceivedHeight + 1,
 						shadowColor | 0xFF000000);
 			}
-			Rendering.drawRect(segmentX, 0, segmentX + segmentLength, perceivedHeight, indeterminateColor | 0xFF000000);
+			pr.drawRect(segmentX, 0, segmentX + segmentLength, perceivedHeight, indeterminateColor | 0xFF000000);
 		} else {
 			float lagg = lag;
 			if (lag < target) {
@@ -108,19 +108,19 @@ public class PaneProgressBar
 			final int segmentLength = (int) (lagg * perceivedWidth);
 			if (outlined && segmentLength > 0) {
 				final int shadowColor = (filledColor & 16579836) >> 2 | filledColor & -16777216;
-				Rendering.drawRect(-1, -1, segmentLength + (lagg == 1.0 ? 1 : 0), perceivedHeight + 1,
+				pr.drawRect(-1, -1, segmentLength + (lagg == 1.0 ? 1 : 0), perceivedHeight + 1,
 						shadowColor | 0xFF000000);
 			}
-			Rendering.drawRect(0, 0, segmentLength, perceivedHeight, filledColor | 0xFF000000);
+			pr.drawRect(0, 0, segmentLength, perceivedHeight, filledColor | 0xFF000000);
 		}
 		drawProgressText(useLagValueForProgressText ? lag : target);
 		if (outlined) {
-			GL11.glTranslatef(-1, -1, 0);
+			pr.translate(-1, -1, 0);
 			final int shadowColor = (color & 16579836) >> 2 | color & -16777216;
-			Rendering.drawRect(0, 0, width, 1, shadowColor | 0xFF000000);
-			Rendering.drawRect(width - 1, 1, width, height, shadowColor | 0xFF000000);
-			Rendering.drawRect(0, height - 1, width - 1, height, shadowColor | 0xFF000000);
-			Rendering.drawRect(0, 0, 1, height - 1, shadowColor | 0xFF000000);
+			pr.drawRect(0, 0, width, 1, shadowColor | 0xFF000000);
+			pr.drawRect(width - 1, 1, width, height, shadowColor | 0xFF000000);
+			pr.drawRect(0, height - 1, width - 1, height, shadowColor | 0xFF000000);
+			pr.drawRect(0, 0, 1, height - 1, shadowColor | 0xFF000000);
 		}
 	}
 	
@@ -2,6 +2,8 @@ package gminers.glasspane.component.progress;
 
 
 import gminers.glasspane.component.ColorablePaneComponent;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import gminers.kitchensink.ReadableNumbers;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -88,6 +90,7 @@ public abstract class PaneProgressIndicator
 	
 	public PaneProgressIndicator() {
 		color = 0x333333;
+		setRenderLive(true);
 	}
 	
 	/**
@@ -124,11 +127,12 @@ public abstract class PaneProgressIndicator
 	}
 	
 	protected void drawProgressText(final float progress) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		if (progressTextShown) {
 			if (invertProgressText) {
-				GL11.glPushMatrix();
-				GL11.glBlendFunc(GL11.GL_ONE_MINUS_DST_COLOR, GL11.GL_ONE_MINUS_SRC_COLOR);
-				GL11.glEnable(GL11.GL_BLEND);
+				pr.pushMatrix();
+				pr.blendFunc(GL11.GL_ONE_MINUS_DST_COLOR, GL11.GL_ONE_MINUS_SRC_COLOR);
+				pr.setBlend(true);
 			}
 			String text;
 			if (progressText != null) {
@@ -163,21 +167,21 @@ public abstract class PaneProgressIndicator
 						default:
 							text = "???";
 							break;
-					
+						
 					}
 				}
 			}
-			GL11.glPushMatrix();
+			pr.pushMatrix();
 			final int textX = (width / 2) - renderer.getStringWidth(text) / 2;
 			final int textY = (height / 2) - (renderer.FONT_HEIGHT / 2);
 			if (smallProgressText) {
-				GL11.glScalef(0.5f, 0.5f, 0.0f);
+				pr.scale(0.5f, 0.5f, 0.0f);
 			}
-			renderer.drawString(text, textX, textY, progressTextColor);
-			GL11.glPopMatrix();
+			pr.drawString(renderer, text, textX, textY, progressTextColor, false);
+			pr.popMatrix();
 			if (invertProgressText) {
-				GL11.glDisable(GL11.GL_BLEND);
-				GL11.glPopMatrix();
+				pr.setBlend(false);
+				pr.popMatrix();
 			}
 		}
 	}
@@ -4,7 +4,8 @@ package gminers.glasspane.component.text;
 import gminers.glasspane.HorzAlignment;
 import gminers.glasspane.VertAlignment;
 import gminers.glasspane.component.ColorablePaneComponent;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,8 +14,6 @@ import lombok.experimental.FieldDefaults;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 
-import org.lwjgl.opengl.GL11;
-
 
 /**
  * Implements a simple component that displays some text.
@@ -23,7 +22,7 @@ import org.lwjgl.opengl.GL11;
  * 
  */
 @FieldDefaults(level = AccessLevel.PROTECTED)
-@ToString
+@ToString(exclude = "layout")
 @Getter
 @Setter
 public class PaneLabel
@@ -67,6 +66,7 @@ public class PaneLabel
 	 * The amount of pixels between lines of text.
 	 */
 	int lineSpacing = 4;
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private final TextLayout layout = new TextLayout();
 	
 	public PaneLabel() {
 		recalculateSize();
@@ -91,22 +91,13 @@ public class PaneLabel
 	}
 	
 	public int getLineCount() {
-		if (text.trim().isEmpty()) return 0;
-		if (text.contains("\n"))
-			return text.split("\n").length;
-		else
-			return 1;
+		layout.validateLines(text, renderer);
+		return layout.lineCount;
 	}
 	
 	public int getLongestLineWidth() {
-		if (text.contains("\n")) {
-			int work = 0;
-			for (final String s : text.split("\n")) {
-				work = Math.max(renderer.getStringWidth(s), work);
-			}
-			return work;
-		} else
-			return renderer.getStringWidth(text);
+		layout.validateLines(text, renderer);
+		return layout.longestLineWidth;
 	}
 	
 	
@@ -116,6 +107,47 @@ public class PaneLabel
 	public void setText(final String text) {
 		this.text = text;
 		recalculateSize();
+		markDirty();
+	}
+	
+	public void setRenderer(final FontRenderer renderer) {
+		this.renderer = renderer;
+		markDirty();
+	}
+	
+	public void setShadow(final boolean shadow) {
+		this.shadow = shadow;
+		markDirty();
+	}
+	
+	public void setOutlined(final boolean outlined) {
+		this.outlined = outlined;
+		markDirty();
+	}
+	
+	public void setInvertedOutline(final boolean invertedOutline) {
+		this.invertedOutline = invertedOutline;
+		markDirty();
+	}
+	
+	public void setAlignmentX(final HorzAlignment alignmentX) {
+		this.alignmentX = alignmentX;
+		markDirty();
+	}
+	
+	public void setAlignmentY(final VertAlignment alignmentY) {
+		this.alignmentY = alignmentY;
+		markDirty();
+	}
+	
+	public void setSmall(final boolean small) {
+		this.small = small;
+		markDirty();
+	}
+	
+	public void setLineSpacing(final int lineSpacing) {
+		this.lineSpacing = lineSpacing;
+		markDirty();
 	}
 	
 	protected void recalculateSize() {
@@ -141,66 +173,27 @@ public class PaneLabel
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		if (small) {
-			GL11.glScalef(0.5f, 0.5f, 1.0f);
+			pr.scale(0.5f, 0.5f, 1.0f);
 		}
-		if (text.contains("\n")) {
-			int offset = 0;
-			for (final String s : text.split("\n")) {
-				draw(s, offset);
-				offset += renderer.FONT_HEIGHT + lineSpacing;
-			}
-		} else {
-			draw(text, 0);
+		// the layout only changes when the text or how it's laid out does, so this usually just hands back what it had
+		layout.validate(this);
+		for (int i = 0; i < layout.lines.length; i++) {
+			draw(layout.lines[i], layout.lineXs[i], layout.lineYs[i]);
 		}
 	}
 	
-	private void draw(final String s, final int offset) {
-		int adjX = 0;
-		int adjY = 0;
-		if (alignmentX == HorzAlignment.MIDDLE) {
-			adjX = width / 2 - renderer.getStringWidth(s) / (small ? 4 : 2);
-			if (outlined) {
-				adjX++;
-			}
-		} else if (alignmentX == HorzAlignment.RIGHT) {
-			adjX = width - renderer.getStringWidth(s) / (small ? 2 : 1);
-			if (outlined) {
-				adjX--;
-			}
-		} else {
-			if (outlined) {
-				adjX++;
-			}
-		}
-		if (alignmentY == VertAlignment.MIDDLE) {
-			adjY = height / 2 - renderer.FONT_HEIGHT / 2;
-			if (outlined) {
-				adjY--;
-			}
-		} else if (alignmentY == VertAlignment.BOTTOM) {
-			adjY = height - ((getLineCount() * (renderer.FONT_HEIGHT + lineSpacing)) - lineSpacing);
-			if (outlined) {
-				adjY--;
-			}
-		} else {
-			if (outlined) {
-				adjY++;
-			}
-		}
-		if (small) {
-			adjX *= 2;
-			adjY *= 2;
-		}
-		adjY += offset;
+	private void draw(final String s, final int adjX, final int adjY) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		if (outlined) {
 			if (shadow) {
 				final int shadowColor = (color & 16579836) >> 2 | color & -16777216;
-				Rendering.drawOutlinedString(renderer, s, adjX + 1, adjY + 1, shadowColor, invertedOutline);
+				pr.drawOutlinedString(renderer, s, adjX + 1, adjY + 1, shadowColor, invertedOutline);
 			}
-			Rendering.drawOutlinedString(renderer, s, adjX, adjY, color, invertedOutline);
+			pr.drawOutlinedString(renderer, s, adjX, adjY, color, invertedOutline);
 		} else {
-			renderer.drawString(s, adjX, adjY, color, shadow);
+			pr.drawString(renderer, s, adjX, adjY, color, shadow);
 		}
 	}
 	
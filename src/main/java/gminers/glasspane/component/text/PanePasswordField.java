@@ -18,11 +18,16 @@ import org.lwjgl.input.Keyboard;
 public class PanePasswordField
 		extends PaneTextField {
 	@Getter private String text;
+	// kept until the length changes, so the text field doesn't think it's showing something new every frame
+	private String mask = "";
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
 		final String pureText = text = super.text;
-		super.text = Strings.repeat('\u00D7', text.length());
+		if (mask.length() != text.length()) {
+			mask = Strings.repeat('\u00D7', text.length());
+		}
+		super.text = mask;
 		super.doRender(mouseX, mouseY, partialTicks);
 		super.text = pureText;
 	}
@@ -38,10 +43,12 @@ public class PanePasswordField
 			// don't allow copying in a password field
 			blinkColor = 0xFFFFFF;
 			blink = 0.45f;
+			markDirty();
 		} else if ((ctrl && e.getKeyCode() == Keyboard.KEY_X) || (shift && e.getKeyCode() == Keyboard.KEY_DELETE)) {
 			// don't allow cutting in a password field
 			blinkColor = 0xFFFFFF;
 			blink = 0.45f;
+			markDirty();
 		} else {
 			super.onKeyType(e);
 		}
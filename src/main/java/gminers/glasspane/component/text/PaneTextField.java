@@ -7,7 +7,8 @@ import gminers.glasspane.component.PaneImage;
 import gminers.glasspane.component.button.PaneButton;
 import gminers.glasspane.event.KeyTypedEvent;
 import gminers.glasspane.listener.PaneEventHandler;
-import gminers.kitchensink.Rendering;
+import gminers.glasspane.render.PaneRenderer;
+import gminers.glasspane.render.RenderBackend;
 
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
@@ -19,19 +20,20 @@ import java.io.IOException;
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
-import net.minecraft.client.Minecraft;
 import net.minecraft.util.ResourceLocation;
 
 import org.lwjgl.input.Keyboard;
 import org.lwjgl.opengl.Display;
-import org.lwjgl.opengl.GL11;
 
 
 @FieldDefaults(level = AccessLevel.PROTECTED)
-@ToString
+@ToString(exclude = {
+		"metrics",
+		"window",
+		"windowSource"
+})
 public class PaneTextField
 		extends PaneLabel
 		implements Focusable {
@@ -39,29 +41,38 @@ public class PaneTextField
 	/**
 	 * The current position of the carat.
 	 */
-	@Getter @Setter int cursorPos = 0;
+	@Getter int cursorPos = 0;
 	/**
 	 * The current opacity of the visual bell.
 	 */
-	@Getter @Setter float blink = 0.0f;
+	@Getter float blink = 0.0f;
 	/**
 	 * The current color of the visual bell.
 	 */
-	@Getter @Setter int blinkColor = 0xFFFFFF;
+	@Getter int blinkColor = 0xFFFFFF;
 	/**
 	 * The current offset of the view of the text.
 	 */
-	@Getter @Setter int viewPos = 0;
+	@Getter int viewPos = 0;
 	final StringBuilder str = new StringBuilder();
 	int trimmedLength = 0;
+	/**
+	 * The widths of the text that was last shown, so the part that fits and where the carat goes don't have to be measured every frame.
+	 */
+	final TextMetrics metrics = new TextMetrics();
+	// the part of the text that was last shown, kept so it doesn't have to be cut out again every frame
+	String window = null;
+	String windowSource = null;
+	int windowStart = -1;
+	int windowEnd = -1;
 	/**
 	 * The text to show when the TextField is empty.
 	 */
-	@Getter @Setter String blankText = "";
+	@Getter String blankText = "";
 	/**
 	 * The color to use when showing blankText.
 	 */
-	@Getter @Setter int blankColor = 0x888888;
+	@Getter int blankColor = 0x888888;
 	/**
 	 * Whether or not to blink the text field when something happens.<br/>
 	 * The following colors are used:
@@ -73,47 +84,48 @@ public class PaneTextField
 	 * </ul>
 	 * Other, custom, colors can also be used, but these four are the only ones used by default.
 	 */
-	@Getter @Setter boolean visualBellEnabled = true;
+	@Getter boolean visualBellEnabled = true;
 	/**
 	 * An icon to put to the left of the text. Can be used for identification purposes or decoration.<br/>
 	 * Null means 'do not show'.
 	 */
-	@Getter @Setter ResourceLocation icon = null;
+	@Getter ResourceLocation icon = null;
 	/**
 	 * The U (X texture offset) to use when rendering the icon
 	 */
-	@Getter @Setter int iconU = 0;
+	@Getter int iconU = 0;
 	/**
 	 * The V (Y texture offset) to use when rendering the icon
 	 */
-	@Getter @Setter int iconV = 0;
+	@Getter int iconV = 0;
 	/**
 	 * The width of the portion of the icon's image to use - 256 for the entire image
 	 */
-	@Getter @Setter int iconImageWidth = 256;
+	@Getter int iconImageWidth = 256;
 	/**
 	 * The height of the portion of the icon's image to use - 256 for the entire image.
 	 */
-	@Getter @Setter int iconImageHeight = 256;
+	@Getter int iconImageHeight = 256;
 	/**
 	 * A 24-bit packed color to use for the icon. (first 8 bits are ignored, see {@link #alpha})
 	 */
-	@Getter @Setter int iconColor = 0xFFFFFF;
+	@Getter int iconColor = 0xFFFFFF;
 	/**
 	 * The alpha transparency of the icon - 0.0 is completely transparent, 1.0 is opaque
 	 */
-	@Getter @Setter float alpha = 1.0f;
+	@Getter float alpha = 1.0f;
 	/**
 	 * Whether or not to use one-bit transparency for the icon. One-bit transparency is faster, but if your image is partially
 	 * transparent, it will render as fully opaque.
 	 */
-	@Getter @Setter boolean oneBitTransparency = true;
+	@Getter boolean oneBitTransparency = true;
 	
 	public PaneTextField() {
 		alignmentY = VertAlignment.MIDDLE;
 		width = 200;
 		height = 20;
 		setActivatedOnClick(false);
+		setRenderLive(true);
 	}
 	
 	public PaneTextField(final String text) {
@@ -121,6 +133,81 @@ public class PaneTextField
 		setText(text);
 	}
 	
+	public void setCursorPos(final int cursorPos) {
+		this.cursorPos = cursorPos;
+		markDirty();
+	}
+	
+	public void setBlink(final float blink) {
+		this.blink = blink;
+		markDirty();
+	}
+	
+	public void setBlinkColor(final int blinkColor) {
+		this.blinkColor = blinkColor;
+		markDirty();
+	}
+	
+	public void setViewPos(final int viewPos) {
+		this.viewPos = viewPos;
+		markDirty();
+	}
+	
+	public void setBlankText(final String blankText) {
+		this.blankText = blankText;
+		markDirty();
+	}
+	
+	public void setBlankColor(final int blankColor) {
+		this.blankColor = blankColor;
+		markDirty();
+	}
+	
+	public void setVisualBellEnabled(final boolean visualBellEnabled) {
+		this.visualBellEnabled = visualBellEnabled;
+		markDirty();
+	}
+	
+	public void setIcon(final ResourceLocation icon) {
+		this.icon = icon;
+		markDirty();
+	}
+	
+	public void setIconU(final int iconU) {
+		this.iconU = iconU;
+		markDirty();
+	}
+	
+	public void setIconV(final int iconV) {
+		this.iconV = iconV;
+		markDirty();
+	}
+	
+	public void setIconImageWidth(final int iconImageWidth) {
+		this.iconImageWidth = iconImageWidth;
+		markDirty();
+	}
+	
+	public void setIconImageHeight(final int iconImageHeight) {
+		this.iconImageHeight = iconImageHeight;
+		markDirty();
+	}
+	
+	public void setIconColor(final int iconColor) {
+		this.iconColor = iconColor;
+		markDirty();
+	}
+	
+	public void setAlpha(final float alpha) {
+		this.alpha = alpha;
+		markDirty();
+	}
+	
+	public void setOneBitTransparency(final boolean oneBitTransparency) {
+		this.oneBitTransparency = oneBitTransparency;
+		markDirty();
+	}
+	
 	@Override
 	protected void doTick() {
 		// add to the counter
@@ -129,11 +216,13 @@ public class PaneTextField
 		if (visualBellEnabled && blink > 0) {
 			// make sure we don't go negative
 			blink -= Math.min(blink, 0.1);
+			markDirty();
 		}
 	}
 	
 	@Override
 	protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
 		// clamp cursor pos
 		if (cursorPos < 0) {
 			cursorPos = 0;
@@ -141,20 +230,20 @@ public class PaneTextField
 			cursorPos = str.length() - 1;
 		}
 		// bind the widgets
-		Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+		pr.bindTexture(RESOURCE);
 		
 		// u and v, for convenient changing
 		final int u = 0;
 		final int v = 0;
 		
 		// set color
-		GL11.glColor3f(0.6f, 0.6f, 0.6f);
+		pr.color(0.6f, 0.6f, 0.6f, 1.0f);
 		PaneButton.renderStretchyTexturedRect(0, 0, u, v, width, height, 220, 40);
 		
 		// translate to the right to make text less stupid looking
-		GL11.glTranslatef(4f, 0f, 0f);
+		pr.translate(4f, 0f, 0f);
 		if (icon != null) {
-			GL11.glTranslatef(getHeight() - 4, 0, 0);
+			pr.translate(getHeight() - 4, 0, 0);
 		}
 		// trim the text to the component width
 		final String oldText = text;
@@ -167,8 +256,9 @@ public class PaneTextField
 		if (viewPos > text.length()) {
 			viewPos = text.length() - trimmedLength;
 		}
-		text = trimmedText = renderer.trimStringToWidth(text.substring(viewPos), getWidth() - 8
-				- (icon != null ? getHeight() - 4 : 0));
+		metrics.validate(renderer, text);
+		final int end = metrics.fit(viewPos, getWidth() - 8 - (icon != null ? getHeight() - 4 : 0));
+		text = trimmedText = window(text, viewPos, end);
 		trimmedLength = text.length();
 		// shift the view pos if needed
 		if (cursorPos > viewPos + trimmedLength) {
@@ -182,43 +272,42 @@ public class PaneTextField
 		color = oldColor;
 		// if we're focused, draw focus-y things
 		if (getParent() != null && getParent().getFocusedComponent() == this) {
-			final int llw = renderer.getStringWidth(trimmedText.substring(0,
-					Math.min(trimmedLength, Math.max(0, cursorPos - viewPos))));
+			final int llw = metrics.getWidth(viewPos, viewPos + Math.min(trimmedLength, Math.max(0, cursorPos - viewPos)));
 			final int opacity = 255 - ((int) ((counter + partialTicks) * 15) % 255);
 			int hHeight = height / 2;
 			// such as a carat (if the window is also focused)
 			if (Display.isActive()) {
-				Rendering.drawRect(llw - 1, hHeight - ((renderer.FONT_HEIGHT / 2) + 1), llw, hHeight
+				pr.drawRect(llw - 1, hHeight - ((renderer.FONT_HEIGHT / 2) + 1), llw, hHeight
 						+ (renderer.FONT_HEIGHT / 2), 0x00FFFFFF | opacity << 24);
 			}
 			if (icon != null) {
-				GL11.glTranslatef(-(getHeight() - 4), 0, 0);
+				pr.translate(-(getHeight() - 4), 0, 0);
 			}
-			GL11.glTranslatef(-4f, 0f, 0f);
-			GL11.glColor3f(1.0f, 1.0f, 1.0f);
+			pr.translate(-4f, 0f, 0f);
+			pr.color(1.0f, 1.0f, 1.0f, 1.0f);
 			// and ye olde blue outline
-			Minecraft.getMinecraft().renderEngine.bindTexture(RESOURCE);
+			pr.bindTexture(RESOURCE);
 			final int fv = 200;
 			PaneButton.renderStretchyTexturedRect(0, 0, u, fv, width, height, 220, 40);
 		} else {
 			// if we aren't focused, just undo the translate
-			GL11.glTranslatef(-4f, 0f, 0f);
+			pr.translate(-4f, 0f, 0f);
 			if (icon != null) {
-				GL11.glTranslatef(-(getHeight() - 4), 0, 0);
+				pr.translate(-(getHeight() - 4), 0, 0);
 			}
 		}
 		// draw some indications there's more text if we're not showing it all
 		if (viewPos > 0) {
-			Rendering.drawHorzGradientRect(1, 1, 2 + (icon != null ? getHeight() - 4 : 0), height - 1, 0x99FFFFFF,
-					0x33FFFFFF, 0);
+			pr.drawHorzGradientRect(1, 1, 2 + (icon != null ? getHeight() - 4 : 0), height - 1, 0x99FFFFFF,
+					0x33FFFFFF);
 		}
 		if (viewPos + trimmedLength < str.length()) {
-			Rendering.drawHorzGradientRect(width - 1, height - 1, width - 2, 1, 0x99FFFFFF, 0x33FFFFFF, 0);
+			pr.drawHorzGradientRect(width - 1, height - 1, width - 2, 1, 0x99FFFFFF, 0x33FFFFFF);
 		}
 		// if we are allowing visual bell, draw the current visual bell values
 		if (visualBellEnabled) {
 			final int blinkOpacity = (int) ((blink - (Math.min(blink, 0.1) * partialTicks)) * 255);
-			Rendering.drawRect(1, 1, width - 1, height - 1, blinkColor | (blinkOpacity << 24));
+			pr.drawRect(1, 1, width - 1, height - 1, blinkColor | (blinkOpacity << 24));
 		}
 		
 		// render the icon
@@ -228,6 +317,25 @@ public class PaneTextField
 		}
 	}
 	
+	private String window(final String source, final int start, final int end) {
+		if (source != windowSource || start != windowStart || end != windowEnd) {
+			windowSource = source;
+			windowStart = start;
+			windowEnd = end;
+			window = source.substring(start, end);
+		}
+		return window;
+	}
+	
+	@Override
+	protected void mouseDown(final int mouseX, final int mouseY, final int button) {
+		// put the carat where the click was, going by what was shown last frame
+		if (button != 0 || text.isEmpty() || metrics.getText() == null) return;
+		final int textX = mouseX - getX() - 4 - (icon != null ? getHeight() - 4 : 0);
+		cursorPos = Math.min(metrics.indexAt(viewPos, textX), viewPos + trimmedLength);
+		markDirty();
+	}
+	
 	@Override
 	public void setText(final String text) {
 		viewPos = 0;
@@ -235,11 +343,14 @@ public class PaneTextField
 		str.delete(0, str.length());
 		str.append(text);
 		this.text = text;
+		markDirty();
 	}
 	
 	@PaneEventHandler
 	public void onKeyType(final KeyTypedEvent e) {
 		if (getParent() == null || getParent().getFocusedComponent() != this) return;
+		// whatever the key does, it changes the text, the carat, or the bell
+		markDirty();
 		// precalc the ctrl and shift values
 		final boolean ctrl = Keyboard.isKeyDown(Keyboard.KEY_LCONTROL) || Keyboard.isKeyDown(Keyboard.KEY_RCONTROL);
 		// shift is included for IBM-style shortcuts instead of Windows-style
@@ -277,8 +388,10 @@ public class PaneTextField
 				try {
 					final String data = String.valueOf(cont.getTransferData(DataFlavor.stringFlavor));
 					// finally, put it into the string buffer
+					final String before = text;
 					str.insert(cursorPos, data);
 					text = str.toString();
+					metrics.insert(before, cursorPos, data, text);
 					cursorPos += data.length();
 					// and 'sound' a red visual bell for feedback.
 					blinkColor = 0xFF5555;
@@ -292,15 +405,19 @@ public class PaneTextField
 		} else if (Character.isLetterOrDigit(e.getKeyChar()) || e.getKeyChar() > 31 && e.getKeyChar() < 127) {
 			// if it's a letter/digit, or a printable ASCII character, insert it
 			// this won't fit all cases for international text input, but should be adequate for US and Euro layouts (for the most part)
+			final String before = text;
 			str.insert(cursorPos, e.getKeyChar());
 			text = str.toString();
+			metrics.insert(before, cursorPos, String.valueOf(e.getKeyChar()), text);
 			cursorPos++;
 		} else if (e.getKeyCode() == Keyboard.KEY_BACK) {
 			// if it's backspace, and we actually have something to backspace
 			if (str.length() > 0 && cursorPos > 0) {
 				// then delete it
+				final String before = text;
 				str.deleteCharAt(cursorPos - 1);
 				text = str.toString();
+				metrics.delete(before, cursorPos - 1, cursorPos, text);
 				cursorPos--;
 			} else {
 				// otherwise, 'sound' a quick white visual bell
@@ -311,8 +428,10 @@ public class PaneTextField
 			// if it's delete, and we actually have something to delete
 			if (cursorPos < str.length()) {
 				// then delete it
+				final String before = text;
 				str.deleteCharAt(cursorPos);
 				text = str.toString();
+				metrics.delete(before, cursorPos, cursorPos + 1, text);
 			} else {
 				// otherwise, 'sound' a quick white visual bell
 				blink = 0.45f;
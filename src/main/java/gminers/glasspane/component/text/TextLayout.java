@@ -0,0 +1,138 @@
+package gminers.glasspane.component.text;
+
+
+import gminers.glasspane.HorzAlignment;
+import gminers.glasspane.VertAlignment;
+import net.minecraft.client.gui.FontRenderer;
+
+
+/**
+ * How a label's text is laid out - where each line starts and ends, how wide it is, and where it's drawn. Worked out once, and then only
+ * again when the text, font renderer, alignment, size, or spacing changes, so drawing a label that hasn't changed doesn't split or
+ * measure anything.
+ */
+final class TextLayout {
+	private static final String[] NO_LINES = new String[0];
+	private static final int[] NO_INTS = new int[0];
+	
+	// what the lines were worked out from
+	private String text = null;
+	private FontRenderer renderer = null;
+	/**
+	 * The lines to draw, and where in the text each of them starts and ends.
+	 */
+	String[] lines = NO_LINES;
+	int[] lineStarts = NO_INTS;
+	int[] lineEnds = NO_INTS;
+	int[] lineWidths = NO_INTS;
+	/**
+	 * The number of lines as far as the label's size is concerned - 0 for blank text, and trailing empty lines don't count.
+	 */
+	int lineCount = 0;
+	int longestLineWidth = 0;
+	
+	// what the offsets were worked out from
+	private boolean offsetsKnown = false;
+	private HorzAlignment alignmentX;
+	private VertAlignment alignmentY;
+	private boolean small, outlined;
+	private int lineSpacing, width, height;
+	/**
+	 * Where each line is drawn, relative to the label, after it's (possibly halved) scale is applied.
+	 */
+	int[] lineXs = NO_INTS;
+	int[] lineYs = NO_INTS;
+	
+	/**
+	 * Brings the lines up to date with the passed text and renderer.
+	 */
+	void validateLines(final String text, final FontRenderer renderer) {
+		// labels that swap their text out while rendering usually put an equal copy back in, so don't split it again for that
+		if (renderer == this.renderer && (text == this.text || (this.text != null && text.equals(this.text)))) {
+			this.text = text;
+			return;
+		}
+		this.text = text;
+		this.renderer = renderer;
+		offsetsKnown = false;
+		lines = text.contains("\n") ? text.split("\n") : new String[] {
+			text
+		};
+		// split throws away trailing empty lines, but we still have to know where the ones we kept are
+		lineStarts = new int[lines.length];
+		lineEnds = new int[lines.length];
+		lineWidths = new int[lines.length];
+		int pos = 0;
+		longestLineWidth = 0;
+		for (int i = 0; i < lines.length; i++) {
+			lineStarts[i] = pos;
+			lineEnds[i] = pos + lines[i].length();
+			lineWidths[i] = renderer.getStringWidth(lines[i]);
+			longestLineWidth = Math.max(longestLineWidth, lineWidths[i]);
+			pos = lineEnds[i] + 1;
+		}
+		lineCount = text.trim().isEmpty() ? 0 : lines.length;
+	}
+	
+	/**
+	 * Brings everything up to date with the passed label.
+	 */
+	void validate(final PaneLabel label) {
+		validateLines(label.text, label.renderer);
+		if (offsetsKnown && alignmentX == label.alignmentX && alignmentY == label.alignmentY && small == label.small
+				&& outlined == label.outlined && lineSpacing == label.lineSpacing && width == label.getWidth()
+				&& height == label.getHeight()) return;
+		alignmentX = label.alignmentX;
+		alignmentY = label.alignmentY;
+		small = label.small;
+		outlined = label.outlined;
+		lineSpacing = label.lineSpacing;
+		width = label.getWidth();
+		height = label.getHeight();
+		if (lineXs.length != lines.length) {
+			lineXs = new int[lines.length];
+			lineYs = new int[lines.length];
+		}
+		final int fontHeight = renderer.FONT_HEIGHT;
+		int adjY = 0;
+		if (alignmentY == VertAlignment.MIDDLE) {
+			adjY = height / 2 - fontHeight / 2;
+			if (outlined) {
+				adjY--;
+			}
+		} else if (alignmentY == VertAlignment.BOTTOM) {
+			adjY = height - ((lineCount * (fontHeight + lineSpacing)) - lineSpacing);
+			if (outlined) {
+				adjY--;
+			}
+		} else {
+			if (outlined) {
+				adjY++;
+			}
+		}
+		if (small) {
+			adjY *= 2;
+		}
+		for (int i = 0; i < lines.length; i++) {
+			int adjX = 0;
+			if (alignmentX == HorzAlignment.MIDDLE) {
+				adjX = width / 2 - lineWidths[i] / (small ? 4 : 2);
+				if (outlined) {
+					adjX++;
+				}
+			} else if (alignmentX == HorzAlignment.RIGHT) {
+				adjX = width - lineWidths[i] / (small ? 2 : 1);
+				if (outlined) {
+					adjX--;
+				}
+			} else {
+				if (outlined) {
+					adjX++;
+				}
+			}
+			lineXs[i] = small ? adjX * 2 : adjX;
+			lineYs[i] = adjY + i * (fontHeight + lineSpacing);
+		}
+		offsetsKnown = true;
+	}
+}
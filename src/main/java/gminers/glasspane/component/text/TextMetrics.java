@@ -0,0 +1,240 @@
+package gminers.glasspane.component.text;
+
+
+import lombok.Getter;
+import net.minecraft.client.gui.FontRenderer;
+
+
+/**
+ * The widths of every prefix of a single-line string, measured once, so working out how much of it fits in a space, where a character
+ * is, or which character is at a point are binary searches instead of measuring the string over again.<br/>
+ * Widths are measured the same way FontRenderer's getStringWidth does, formatting codes and bold included. Inserting or deleting text
+ * only measures the characters that changed, unless formatting codes are involved - those change the width of everything after them, so
+ * the whole string is measured again.
+ */
+public final class TextMetrics {
+	private static final char FORMAT = '\u00A7';
+	
+	/**
+	 * The string being measured.
+	 */
+	@Getter private String text = null;
+	private FontRenderer font = null;
+	// advances[i] is how far character i moves the pen, prefix[i] is the width of everything before character i
+	private int[] advances = new int[16];
+	private int[] prefix = new int[17];
+	private int length = 0;
+	
+	/**
+	 * Makes sure the passed string is the one being measured, measuring it if it isn't.
+	 */
+	public void validate(final FontRenderer font, final String text) {
+		if (font == this.font && (text == this.text || (this.text != null && text.equals(this.text)))) {
+			this.text = text;
+			return;
+		}
+		this.font = font;
+		this.text = text;
+		remeasure();
+	}
+	
+	/**
+	 * Updates the measurements for text inserted into the string. Nothing happens if the string being measured isn't the one the text was
+	 * inserted into - it'll be measured from scratch the next time it's {@link #validate(FontRenderer, String) validated}.
+	 * 
+	 * @param before
+	 *            The string before the text was inserted.
+	 * @param pos
+	 *            Where the text was inserted.
+	 * @param inserted
+	 *            The text that was inserted.
+	 * @param after
+	 *            The string after the text was inserted.
+	 */
+	public void insert(final String before, final int pos, final String inserted, final String after) {
+		if (before != text || font == null) return;
+		final int n = inserted.length();
+		text = after;
+		if (hasFormatting(inserted, 0, n) || (pos > 0 && after.charAt(pos - 1) == FORMAT)) {
+			remeasure();
+			return;
+		}
+		ensureCapacity(length + n);
+		System.arraycopy(advances, pos, advances, pos + n, length - pos);
+		length += n;
+		final boolean bold = isBoldAt(pos);
+		int added = 0;
+		for (int i = pos; i < pos + n; i++) {
+			advances[i] = advance(after.charAt(i), bold);
+			added += advances[i];
+		}
+		System.arraycopy(prefix, pos + 1, prefix, pos + 1 + n, length - n - pos);
+		for (int i = pos; i < pos + n; i++) {
+			prefix[i + 1] = prefix[i] + advances[i];
+		}
+		for (int i = pos + n + 1; i <= length; i++) {
+			prefix[i] += added;
+		}
+	}
+	
+	/**
+	 * Updates the measurements for text deleted from the string. Nothing happens if the string being measured isn't the one the text was
+	 * deleted from.
+	 * 
+	 * @param before
+	 *            The string before the text was deleted.
+	 * @param start
+	 *            The first character that was deleted.
+	 * @param end
+	 *            The character after the last one that was deleted.
+	 * @param after
+	 *            The string after the text was deleted.
+	 */
+	public void delete(final String before, final int start, final int end, final String after) {
+		if (before != text || font == null) return;
+		text = after;
+		if (hasFormatting(before, start, end) || (start > 0 && before.charAt(start - 1) == FORMAT)) {
+			remeasure();
+			return;
+		}
+		final int n = end - start;
+		final int removed = prefix[end] - prefix[start];
+		System.arraycopy(advances, end, advances, start, length - end);
+		System.arraycopy(prefix, end + 1, prefix, start + 1, length - end);
+		length -= n;
+		for (int i = start + 1; i <= length; i++) {
+			prefix[i] -= removed;
+		}
+	}
+	
+	/**
+	 * @return The width of the characters from start up to (but not including) end.
+	 */
+	public int getWidth(final int start, final int end) {
+		return prefix[clamp(end)] - prefix[clamp(start)];
+	}
+	
+	/**
+	 * @return The index after the last character, starting from start, that still fits in the passed width - the same string
+	 *         FontRenderer's trimStringToWidth would give for the substring from start.
+	 */
+	public int fit(final int start, final int width) {
+		final int from = clamp(start);
+		// trimStringToWidth stops as soon as it's reached the width, so there's nothing at all for no width
+		if (width <= 0) return from;
+		final int limit = prefix[from] + width;
+		// the first prefix that reaches the limit
+		int lo = from + 1, hi = length + 1;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (prefix[mid] < limit) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		if (lo > length) return length;
+		// it keeps a character that lands exactly on the width, but not one that goes past it
+		return prefix[lo] == limit ? lo : lo - 1;
+	}
+	
+	/**
+	 * @return The index of the gap between characters closest to the passed X coordinate, measured from the character at start. Useful
+	 *         for putting a caret where something was clicked.
+	 */
+	public int indexAt(final int start, final int x) {
+		final int from = clamp(start);
+		if (x <= 0) return from;
+		final int target = prefix[from] + x;
+		// the first prefix at or past the target
+		int lo = from, hi = length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (prefix[mid] < target) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		if (lo > from && target - prefix[lo - 1] < prefix[lo] - target) return lo - 1;
+		return lo;
+	}
+	
+	private int clamp(final int i) {
+		return i < 0 ? 0 : i > length ? length : i;
+	}
+	
+	private void remeasure() {
+		ensureCapacity(text.length());
+		length = text.length();
+		measure();
+	}
+	
+	private void ensureCapacity(final int n) {
+		if (advances.length >= n) return;
+		int size = advances.length;
+		while (size < n) {
+			size *= 2;
+		}
+		final int[] newAdvances = new int[size];
+		final int[] newPrefix = new int[size + 1];
+		System.arraycopy(advances, 0, newAdvances, 0, length);
+		System.arraycopy(prefix, 0, newPrefix, 0, length + 1);
+		advances = newAdvances;
+		prefix = newPrefix;
+	}
+	
+	/**
+	 * Measures the whole string, the same way getStringWidth does.
+	 */
+	private void measure() {
+		boolean bold = false;
+		prefix[0] = 0;
+		for (int i = 0; i < length; i++) {
+			final char c = text.charAt(i);
+			if (c == FORMAT && i + 1 < length) {
+				// a formatting code, neither character of which takes up any space
+				final char code = text.charAt(i + 1);
+				if (code == 'l' || code == 'L') {
+					bold = true;
+				} else if (code == 'r' || code == 'R') {
+					bold = false;
+				}
+				advances[i] = 0;
+				advances[i + 1] = 0;
+				prefix[i + 1] = prefix[i];
+				prefix[i + 2] = prefix[i];
+				i++;
+				continue;
+			}
+			advances[i] = advance(c, bold);
+			prefix[i + 1] = prefix[i] + advances[i];
+		}
+	}
+	
+	private int advance(final char c, final boolean bold) {
+		final int w = font.getCharWidth(c);
+		if (w < 0) return 0;
+		return bold && w > 0 ? w + 1 : w;
+	}
+	
+	/**
+	 * @return Whether or not the formatting codes before the passed index leave the text bold.
+	 */
+	private boolean isBoldAt(final int pos) {
+		for (int i = pos - 2; i >= 0; i--) {
+			if (text.charAt(i) != FORMAT) {
+				continue;
+			}
+			final char code = text.charAt(i + 1);
+			if (code == 'l' || code == 'L') return true;
+			if (code == 'r' || code == 'R') return false;
+		}
+		return false;
+	}
+	
+	private static boolean hasFormatting(final String s, final int start, final int end) {
+		final int i = s.indexOf(FORMAT, start);
+		return i != -1 && i < end;
+	}
+}
@@ -1,17 +1,19 @@
 package gminers.glasspane.ease;
 
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AccessibleObject;
 
 
 public class AggressiveFieldAccessor<T>
 		implements FieldAccessor<T> {
-	private Object access;
+	// weak, as the easer holding this accessor mustn't keep the object alive
+	private WeakReference<Object> access;
 	private Class<?> clazz;
 	private String field;
 	
 	public AggressiveFieldAccessor(Object access, Class<?> clazz, String field) {
-		this.access = access;
+		this.access = new WeakReference<Object>(access);
 		this.clazz = clazz;
 		this.field = field;
 	}
@@ -20,20 +22,19 @@ public class AggressiveFieldAccessor<T>
 	@Override
 	public T get() {
 		try {
-			return (T) accessible(clazz.getDeclaredField(field)).get(access);
+			return (T) accessible(clazz.getDeclaredField(field)).get(target());
 		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeException("Could not get " + field + " from " + clazz.getName());
+			// whoever's calling us reports it, printing it here as well would just double the noise
+			throw new RuntimeException("Could not get " + field + " from " + clazz.getName(), e);
 		}
 	}
 	
 	@Override
 	public void set(T val) {
 		try {
-			accessible(clazz.getDeclaredField(field)).set(access, val);
+			accessible(clazz.getDeclaredField(field)).set(target(), val);
 		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeException("Could not set " + field + " in " + clazz.getName());
+			throw new RuntimeException("Could not set " + field + " in " + clazz.getName(), e);
 		}
 	}
 	
@@ -42,4 +43,10 @@ public class AggressiveFieldAccessor<T>
 		return x;
 	}
 	
+	private Object target() {
+		Object o = access.get();
+		if (o == null) throw new IllegalStateException("The object " + field + " belongs to has been garbage collected");
+		return o;
+	}
+	
 }
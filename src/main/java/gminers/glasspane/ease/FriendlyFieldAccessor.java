@@ -1,9 +1,13 @@
 package gminers.glasspane.ease;
 
 
+import java.lang.ref.WeakReference;
+
+
 public class FriendlyFieldAccessor<T>
 		implements FieldAccessor<T> {
-	private Object access;
+	// weak, as the easer holding this accessor mustn't keep the object alive
+	private WeakReference<Object> access;
 	private Class<?> clazz;
 	private String field;
 	private Class<?> setterClass;
@@ -11,7 +15,7 @@ public class FriendlyFieldAccessor<T>
 	private String setterName;
 	
 	public FriendlyFieldAccessor(Object access, Class<?> clazz, Class<?> setterClass, String field) {
-		this.access = access;
+		this.access = new WeakReference<Object>(access);
 		this.clazz = clazz;
 		this.field = field;
 		this.setterClass = setterClass;
@@ -29,7 +33,7 @@ public class FriendlyFieldAccessor<T>
 	@Override
 	public T get() {
 		try {
-			return (T) clazz.getMethod(getterName).invoke(access);
+			return (T) clazz.getMethod(getterName).invoke(target());
 		} catch (Exception e) {
 			throw new RuntimeException("Could not get " + field + " from " + clazz.getName(), e);
 		}
@@ -38,10 +42,16 @@ public class FriendlyFieldAccessor<T>
 	@Override
 	public void set(T val) {
 		try {
-			clazz.getMethod(setterName, setterClass).invoke(access, val);
+			clazz.getMethod(setterName, setterClass).invoke(target(), val);
 		} catch (Exception e) {
 			throw new RuntimeException("Could not set " + field + " in " + clazz.getName(), e);
 		}
 	}
 	
+	private Object target() {
+		Object o = access.get();
+		if (o == null) throw new IllegalStateException("The object " + field + " belongs to has been garbage collected");
+		return o;
+	}
+	
 }
@@ -3,6 +3,7 @@ package gminers.glasspane.ease;
 
 import java.awt.Color;
 import java.io.Closeable;
+import java.lang.ref.WeakReference;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +37,13 @@ import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 @SuppressWarnings("rawtypes")
 public class PaneEaser
 		implements Closeable {
-	protected final Object toEase;
+	/**
+	 * The object being eased, while there's something left to ease. It's let go of when the easer runs out of things to ease, so an idle
+	 * easer doesn't keep it alive - use {@link #getTarget()} to get at it any time.
+	 */
+	protected Object toEase;
+	// weak, so an idle easer doesn't keep the object alive. once it's gone, the easer closes itself
+	private final WeakReference<Object> target;
 	protected Map<String, Byte> byteTargets = Maps.newHashMap();
 	protected Map<String, Short> shortTargets = Maps.newHashMap();
 	protected Map<String, Integer> integerTargets = Maps.newHashMap();
@@ -61,15 +68,30 @@ public class PaneEaser
 	
 	
 	public PaneEaser(@NonNull Object toEase) {
-		this.toEase = toEase;
+		this.target = new WeakReference<Object>(toEase);
 		GlassPaneMod.easers.put(toEase, this);
 	}
 	
+	/**
+	 * @return The object being eased, or <code>null</code> if it's been garbage collected.
+	 */
+	protected Object getTarget() {
+		return target.get();
+	}
+	
+	/**
+	 * Holds on to the object while there's something to ease, so it can't be collected halfway through.
+	 */
+	private void hold() {
+		toEase = target.get();
+	}
+	
 	@SuppressWarnings("unchecked")
 	private <T extends Number> void ease(Iterator<Entry<String, T>> iter, Class<?> primitive) {
 		while (iter.hasNext()) {
 			Entry<String, T> en = iter.next();
 			FieldAccessor<T> accessor = getAccessor(en.getKey(), primitive);
+			if (accessor == null) return;
 			T current = accessor.get();
 			T val = (T) numerfy(adjust(current.doubleValue(), en.getValue().doubleValue()), current.getClass());
 			if (current.equals(val)) {
@@ -97,6 +119,10 @@ public class PaneEaser
 	@SuppressWarnings("unchecked")
 	public void onTick(Phase phase) {
 		if (closed) return;
+		if (getTarget() == null) {
+			close();
+			return;
+		}
 		if (phase == Phase.START) {
 			ease(byteTargets.entrySet().iterator(), byte.class);
 			ease(shortTargets.entrySet().iterator(), short.class);
@@ -109,6 +135,7 @@ public class PaneEaser
 				while (iter.hasNext()) {
 					val en = iter.next();
 					FieldAccessor<Integer> accessor = getAccessor(en.getKey(), int.class);
+					if (accessor == null) return;
 					val current = accessor.get();
 					if (current.equals(en.getValue())) {
 						iter.remove();
@@ -124,10 +151,14 @@ public class PaneEaser
 				}
 			}
 		} else {
-			if (autoClose && byteTargets.isEmpty() && shortTargets.isEmpty() && integerTargets.isEmpty()
-					&& longTargets.isEmpty() && floatTargets.isEmpty() && doubleTargets.isEmpty()
-					&& colorTargets.isEmpty()) {
-				close();
+			if (byteTargets.isEmpty() && shortTargets.isEmpty() && integerTargets.isEmpty() && longTargets.isEmpty()
+					&& floatTargets.isEmpty() && doubleTargets.isEmpty() && colorTargets.isEmpty()) {
+				if (autoClose) {
+					close();
+				} else {
+					// nothing left to do, so stop keeping the object alive until we're asked to ease something again
+					toEase = null;
+				}
 			}
 		}
 	}
@@ -145,7 +176,10 @@ public class PaneEaser
 	@SuppressWarnings("unchecked")
 	protected FieldAccessor getAccessor(String key, Class<?> setterClass) {
 		if (!accessors.containsKey(key)) {
-			accessors.put(key, new FriendlyFieldAccessor(toEase, toEase.getClass(), setterClass, key));
+			Object target = getTarget();
+			// it's gone, and we'll close on the next tick
+			if (target == null) return null;
+			accessors.put(key, new FriendlyFieldAccessor(target, target.getClass(), setterClass, key));
 		}
 		return accessors.get(key);
 	}
@@ -156,30 +190,37 @@ public class PaneEaser
 	
 	public void easeByte(String value, byte target) {
 		byteTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeShort(String value, short target) {
 		shortTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeInteger(String value, int target) {
 		integerTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeLong(String value, long target) {
 		longTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeColorInt(String value, int target) {
 		colorTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeFloat(String value, float target) {
 		floatTargets.put(value, target);
+		hold();
 	}
 	
 	public void easeDouble(String value, double target) {
 		doubleTargets.put(value, target);
+		hold();
 	}
 	
 	public void cancelEase(String value) {
@@ -204,7 +245,12 @@ public class PaneEaser
 	@Override
 	public void close() {
 		if (closed) return;
-		GlassPaneMod.easers.remove(toEase);
+		Object target = getTarget();
+		toEase = null;
+		if (target != null) {
+			// if it's been collected, the map has already dropped it
+			GlassPaneMod.easers.remove(target);
+		}
 		for (Runnable r : closeListeners) {
 			r.run();
 		}
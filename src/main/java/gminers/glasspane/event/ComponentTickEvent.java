@@ -13,15 +13,37 @@ import lombok.experimental.FieldDefaults;
  * @author Aesen Vismea
  * 
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
 @ToString
 public class ComponentTickEvent
-		extends PaneEvent {
+		extends PaneEvent
+		implements RecyclableEvent {
 	public static final Class<?>[] SIGNATURE = {
 		PaneComponent.class
 	};
+	public static final EventPool<ComponentTickEvent> POOL = EventPool.of(ComponentTickEvent.class);
 	
 	public ComponentTickEvent(final PaneComponent source) {
 		super(source);
 	}
+	
+	/**
+	 * Gets an event from the pool, or creates a new one if there aren't any free.
+	 */
+	public static ComponentTickEvent obtain(final PaneComponent source) {
+		final ComponentTickEvent e = POOL.poll();
+		if (e == null) return new ComponentTickEvent(source);
+		e.reset(source);
+		return e;
+	}
+	
+	@Override
+	public void recycle(final Object... constructorArgs) {
+		reset((PaneComponent) constructorArgs[0]);
+	}
+	
+	@Override
+	public ComponentTickEvent copy() {
+		return new ComponentTickEvent(getSource());
+	}
 }
@@ -0,0 +1,73 @@
+package gminers.glasspane.event;
+
+
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
+
+import com.google.common.collect.Maps;
+
+
+/**
+ * A small free list of instances of a single {@link RecyclableEvent} class. Pooling is off by default; while it's off, {@link #poll()}
+ * never returns anything and {@link #release(PaneEvent)} does nothing, so every fire creates a new event like always.<br/>
+ * Pools are not thread-safe. Recyclable events are only fired from the client thread.
+ */
+@ToString(of = {
+		"eventClass",
+		"size"
+})
+public final class EventPool<T extends PaneEvent> {
+	private static final int MAX_SIZE = 16;
+	private static final ConcurrentMap<Class<?>, EventPool<?>> pools = Maps.newConcurrentMap();
+	/**
+	 * Whether or not recyclable events are pooled. Off by default.
+	 */
+	@Getter @Setter private static boolean enabled = false;
+	
+	private final Class<T> eventClass;
+	// deep enough for events fired from inside handlers of the same event, which borrow more than one at a time
+	private final PaneEvent[] free = new PaneEvent[MAX_SIZE];
+	private int size = 0;
+	
+	private EventPool(final Class<T> eventClass) {
+		this.eventClass = eventClass;
+	}
+	
+	/**
+	 * Takes a free instance out of this pool.
+	 * 
+	 * @return A previously released instance, which needs to be re-initialized, or <code>null</code> if there are none or pooling is
+	 *         disabled.
+	 */
+	public T poll() {
+		if (!enabled || size == 0) return null;
+		final PaneEvent e = free[--size];
+		free[size] = null;
+		return eventClass.cast(e);
+	}
+	
+	/**
+	 * Returns an instance to this pool after it has been dispatched. Retained events, and events released while pooling is disabled or the
+	 * pool is full, are left to the garbage collector.
+	 */
+	public void release(final T event) {
+		if (!enabled || event.isRetained() || size == free.length) return;
+		free[size++] = event;
+	}
+	
+	/**
+	 * Gets the pool for the passed recyclable event class, creating it if this is the first time it has been seen.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends PaneEvent> EventPool<T> of(final @NonNull Class<T> eventClass) {
+		final EventPool<T> pool = (EventPool<T>) pools.get(eventClass);
+		if (pool != null) return pool;
+		final EventPool<T> created = new EventPool<T>(eventClass);
+		final EventPool<T> raced = (EventPool<T>) pools.putIfAbsent(eventClass, created);
+		return raced == null ? created : raced;
+	}
+}
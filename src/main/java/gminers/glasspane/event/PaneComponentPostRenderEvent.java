@@ -15,17 +15,19 @@ import lombok.experimental.FieldDefaults;
  * @author Aesen Vismea
  * 
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
 @ToString
 @Getter
 public class PaneComponentPostRenderEvent
-		extends PaneEvent {
+		extends PaneEvent
+		implements RecyclableEvent {
 	public static final Class<?>[] SIGNATURE = {
 			PaneComponent.class,
 			int.class,
 			int.class,
 			float.class
 	};
+	public static final EventPool<PaneComponentPostRenderEvent> POOL = EventPool.of(PaneComponentPostRenderEvent.class);
 	/**
 	 * The absolute X of the mouse.
 	 */
@@ -46,4 +48,31 @@ public class PaneComponentPostRenderEvent
 		this.mouseY = mouseY;
 		this.partialTicks = partialTicks;
 	}
+	
+	/**
+	 * Gets an event from the pool, or creates a new one if there aren't any free.
+	 */
+	public static PaneComponentPostRenderEvent obtain(final PaneComponent source, final int mouseX, final int mouseY,
+			final float partialTicks) {
+		final PaneComponentPostRenderEvent e = POOL.poll();
+		if (e == null) return new PaneComponentPostRenderEvent(source, mouseX, mouseY, partialTicks);
+		e.reset(source);
+		e.mouseX = mouseX;
+		e.mouseY = mouseY;
+		e.partialTicks = partialTicks;
+		return e;
+	}
+	
+	@Override
+	public void recycle(final Object... constructorArgs) {
+		reset((PaneComponent) constructorArgs[0]);
+		mouseX = (Integer) constructorArgs[1];
+		mouseY = (Integer) constructorArgs[2];
+		partialTicks = (Float) constructorArgs[3];
+	}
+	
+	@Override
+	public PaneComponentPostRenderEvent copy() {
+		return new PaneComponentPostRenderEvent(getSource(), mouseX, mouseY, partialTicks);
+	}
 }
@@ -15,17 +15,19 @@ import lombok.experimental.FieldDefaults;
  * @author Aesen Vismea
  * 
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
 @ToString
 @Getter
 public class PaneComponentPreRenderEvent
-		extends PaneEvent {
+		extends PaneEvent
+		implements RecyclableEvent {
 	public static final Class<?>[] SIGNATURE = {
 			PaneComponent.class,
 			int.class,
 			int.class,
 			float.class
 	};
+	public static final EventPool<PaneComponentPreRenderEvent> POOL = EventPool.of(PaneComponentPreRenderEvent.class);
 	/**
 	 * The absolute X of the mouse.
 	 */
@@ -46,4 +48,31 @@ public class PaneComponentPreRenderEvent
 		this.mouseY = mouseY;
 		this.partialTicks = partialTicks;
 	}
+	
+	/**
+	 * Gets an event from the pool, or creates a new one if there aren't any free.
+	 */
+	public static PaneComponentPreRenderEvent obtain(final PaneComponent source, final int mouseX, final int mouseY,
+			final float partialTicks) {
+		final PaneComponentPreRenderEvent e = POOL.poll();
+		if (e == null) return new PaneComponentPreRenderEvent(source, mouseX, mouseY, partialTicks);
+		e.reset(source);
+		e.mouseX = mouseX;
+		e.mouseY = mouseY;
+		e.partialTicks = partialTicks;
+		return e;
+	}
+	
+	@Override
+	public void recycle(final Object... constructorArgs) {
+		reset((PaneComponent) constructorArgs[0]);
+		mouseX = (Integer) constructorArgs[1];
+		mouseY = (Integer) constructorArgs[2];
+		partialTicks = (Float) constructorArgs[3];
+	}
+	
+	@Override
+	public PaneComponentPreRenderEvent copy() {
+		return new PaneComponentPreRenderEvent(getSource(), mouseX, mouseY, partialTicks);
+	}
 }
@@ -4,7 +4,7 @@ package gminers.glasspane.event;
 import gminers.glasspane.component.PaneComponent;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
@@ -20,16 +20,31 @@ import lombok.experimental.NonFinal;
 @Getter
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @ToString
-@RequiredArgsConstructor
 public abstract class PaneEvent {
 	/**
 	 * The source of this event.
 	 */
-	PaneComponent source;
+	@NonFinal PaneComponent source;
 	/**
 	 * Whether or not this event is consumed.
 	 */
 	@NonFinal boolean consumed = false;
+	/**
+	 * Whether or not a handler has asked to keep this event. Retained events are never handed back to their {@link EventPool}.
+	 */
+	@NonFinal boolean retained = false;
+	/**
+	 * The phase this event is currently being delivered in. Set by the event system as the event travels through the component tree.
+	 */
+	@NonFinal @Setter PropagationPhase phase = PropagationPhase.TARGET;
+	/**
+	 * Whether or not this event has been stopped from travelling any further through the component tree.
+	 */
+	@NonFinal boolean propagationStopped = false;
+	
+	public PaneEvent(final PaneComponent source) {
+		this.source = source;
+	}
 	
 	/**
 	 * Consumes this event, preventing it from firing other event behaviors.<br/>
@@ -40,4 +55,32 @@ public abstract class PaneEvent {
 		consumed = true;
 	}
 	
+	/**
+	 * Marks this event as kept by a handler. Only matters for {@link RecyclableEvent}s: without this, they may be reused for a later event
+	 * once the handler returns.
+	 */
+	public void retain() {
+		retained = true;
+	}
+	
+	/**
+	 * Resets this event's base state so it can be fired again. Used by {@link RecyclableEvent}s.
+	 */
+	protected void reset(final PaneComponent source) {
+		this.source = source;
+		consumed = false;
+		retained = false;
+		phase = PropagationPhase.TARGET;
+		propagationStopped = false;
+	}
+	
+	/**
+	 * Stops this event from travelling any further through the component tree. Listeners on the current component still receive it, but no
+	 * other components will.<br/>
+	 * Unlike {@link #consume()}, this doesn't prevent any behaviors on components that have already received it.
+	 */
+	public void stopPropagation() {
+		propagationStopped = true;
+	}
+	
 }
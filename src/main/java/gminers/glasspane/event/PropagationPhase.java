@@ -0,0 +1,23 @@
+package gminers.glasspane.event;
+
+
+/**
+ * The phases an input event goes through as it travels through the component tree.
+ */
+public enum PropagationPhase {
+	/**
+	 * The event is travelling down from the pane towards the target, and is being delivered to an ancestor of the target. Only handlers
+	 * with <code>capture = true</code> receive it.
+	 */
+	CAPTURE,
+	/**
+	 * The event is being delivered to the component it was aimed at. All handlers receive it. Events fired directly at a component,
+	 * instead of through the component tree, are always in this phase.
+	 */
+	TARGET,
+	/**
+	 * The event is travelling back up from the target towards the pane, and is being delivered to an ancestor of the target. Only handlers
+	 * without <code>capture = true</code> receive it.
+	 */
+	BUBBLE
+}
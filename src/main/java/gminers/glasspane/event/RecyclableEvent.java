@@ -0,0 +1,19 @@
+package gminers.glasspane.event;
+
+
+/**
+ * Implemented by event classes that are fired so often (every frame or every tick) that their instances are worth reusing. When
+ * {@link EventPool#isEnabled() pooling} is on, a recyclable event is only valid until the handler it was passed to returns - handlers that
+ * want to keep one around must call {@link PaneEvent#retain()} or keep a {@link #copy()} instead.
+ */
+public interface RecyclableEvent {
+	/**
+	 * Re-initializes this event as if it had just been constructed with the passed arguments, which match the event's SIGNATURE.
+	 */
+	void recycle(Object... constructorArgs);
+	
+	/**
+	 * @return A new, unpooled event with the same contents as this one.
+	 */
+	PaneEvent copy();
+}
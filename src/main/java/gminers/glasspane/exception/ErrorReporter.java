@@ -0,0 +1,167 @@
+package gminers.glasspane.exception;
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import com.gameminers.glasspane.internal.GlassPaneMod;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+
+
+/**
+ * Collects errors thrown by things Glass Pane calls over and over, like event handlers and easers, so a single broken one doesn't flood
+ * the log with a stack trace every frame.<br/>
+ * Errors are counted per source (the handler registration, easer, etc. that failed) and exception type. The first one of each is logged
+ * with it's stack trace, and after that, a one-line summary is logged at most once every {@link #getLogIntervalMillis() interval}.<br/>
+ * Optionally, sources that fail {@link #getDisableThreshold() too many times} can be disabled by whoever reported them. Sources are held
+ * weakly, so counting errors for something doesn't keep it alive.
+ */
+public final class ErrorReporter {
+	private static final ConcurrentMap<Object, ConcurrentMap<Class<? extends Throwable>, ErrorCount>> errors = new MapMaker()
+			.weakKeys().makeMap();
+	/**
+	 * The minimum time between two log lines about the same source and exception type, in milliseconds. Defaults to 10 seconds.
+	 */
+	@Getter @Setter private static long logIntervalMillis = 10000L;
+	/**
+	 * The number of errors, of any type, after which a source should be disabled. 0, the default, means never.
+	 */
+	@Getter @Setter private static int disableThreshold = 0;
+	
+	private ErrorReporter() {}
+	
+	/**
+	 * Counts an error, and logs it if it's the first of it's kind or it's been long enough since the last time.
+	 * 
+	 * @param source
+	 *            What failed. Errors are counted per source, by identity.
+	 * @param subsystem
+	 *            The subsystem to tag log lines with, like "EventSystem".
+	 * @param message
+	 *            What went wrong, without a trailing period.
+	 * @param t
+	 *            The error.
+	 * @return <code>true</code> if the source has now failed often enough that it should be disabled.
+	 */
+	public static boolean report(final @NonNull Object source, final String subsystem, final String message, final @NonNull Throwable t) {
+		ConcurrentMap<Class<? extends Throwable>, ErrorCount> bySource = errors.get(source);
+		if (bySource == null) {
+			bySource = Maps.newConcurrentMap();
+			final ConcurrentMap<Class<? extends Throwable>, ErrorCount> raced = errors.putIfAbsent(source, bySource);
+			if (raced != null) {
+				bySource = raced;
+			}
+		}
+		ErrorCount count = bySource.get(t.getClass());
+		if (count == null) {
+			count = new ErrorCount(message, t.getClass());
+			final ErrorCount raced = bySource.putIfAbsent(t.getClass(), count);
+			if (raced != null) {
+				count = raced;
+			}
+		}
+		count.count++;
+		count.lastMessage = t.getMessage();
+		final long now = System.currentTimeMillis();
+		if (count.count == 1) {
+			// the first one gets the full story
+			GlassPaneMod.inst.getLog().error("[GlassPane] [" + subsystem + "] " + message + "!", t);
+			count.lastLogged = now;
+			count.countAtLastLog = count.count;
+		} else if (now - count.lastLogged >= logIntervalMillis) {
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [" + subsystem + "] " + message + " (" + t.getClass().getName() + " thrown "
+							+ (count.count - count.countAtLastLog) + " more times since the last report, " + count.count
+							+ " total)");
+			count.lastLogged = now;
+			count.countAtLastLog = count.count;
+		}
+		return shouldDisable(bySource, subsystem, message);
+	}
+	
+	private static boolean shouldDisable(final Map<Class<? extends Throwable>, ErrorCount> bySource, final String subsystem,
+			final String message) {
+		if (disableThreshold <= 0) return false;
+		long total = 0;
+		for (final ErrorCount count : bySource.values()) {
+			total += count.count;
+		}
+		if (total < disableThreshold) return false;
+		if (total == disableThreshold) {
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [" + subsystem + "] " + message + " - it has failed " + total + " times, disabling it");
+		}
+		return true;
+	}
+	
+	/**
+	 * @return A snapshot of the error counts for the passed source, or an empty list if it's never failed.
+	 */
+	public static List<ErrorCount> getErrors(final Object source) {
+		final Map<Class<? extends Throwable>, ErrorCount> bySource = errors.get(source);
+		if (bySource == null) return Collections.emptyList();
+		return ImmutableList.copyOf(bySource.values());
+	}
+	
+	/**
+	 * @return A snapshot of the error counts for every source that's failed and is still around.
+	 */
+	public static List<ErrorCount> getErrors() {
+		final List<ErrorCount> all = Lists.newArrayList();
+		for (final Map<Class<? extends Throwable>, ErrorCount> bySource : errors.values()) {
+			all.addAll(bySource.values());
+		}
+		return all;
+	}
+	
+	/**
+	 * Forgets every error counted so far. Sources that fail again will have their first error logged in full again.
+	 */
+	public static void reset() {
+		errors.clear();
+	}
+	
+	/**
+	 * The number of times a single source has thrown a single exception type.
+	 */
+	@Getter
+	@FieldDefaults(level = AccessLevel.PRIVATE)
+	@ToString
+	public static final class ErrorCount {
+		/**
+		 * What went wrong, as it was first reported.
+		 */
+		final String description;
+		/**
+		 * The type of exception thrown.
+		 */
+		final Class<? extends Throwable> exceptionType;
+		/**
+		 * How many times it's been thrown.
+		 */
+		long count;
+		/**
+		 * The message of the most recent one.
+		 */
+		String lastMessage;
+		@Getter(AccessLevel.NONE) long lastLogged;
+		@Getter(AccessLevel.NONE) long countAtLastLog;
+		
+		ErrorCount(final String description, final Class<? extends Throwable> exceptionType) {
+			this.description = description;
+			this.exceptionType = exceptionType;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package gminers.glasspane.listener;
+
+
+/**
+ * The clock that {@link PaneEventHandler#throttleTicks() throttled}, {@link PaneEventHandler#debounceTicks() debounced} and
+ * {@link PaneEventHandler#coalesce() coalesced} handlers are timed against. Advanced once per client tick by Glass Pane itself.
+ */
+public final class EventClock {
+	private static long now = 0;
+	
+	private EventClock() {}
+	
+	/**
+	 * @return The number of ticks that have passed since Glass Pane started.
+	 */
+	public static long now() {
+		return now;
+	}
+	
+	/**
+	 * Moves the clock forward a tick. Called by Glass Pane at the start of every client tick, you shouldn't need to call this.
+	 */
+	public static void advance() {
+		now++;
+	}
+}
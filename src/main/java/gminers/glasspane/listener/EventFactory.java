@@ -0,0 +1,200 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.exception.ErrorReporter;
+import gminers.glasspane.exception.PaneCantContinueError;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import com.gameminers.glasspane.internal.GlassPaneMod;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Primitives;
+
+
+/**
+ * Creates instances of a single event class. The event's SIGNATURE field and matching constructor are resolved once, when the event
+ * class is first registered, and reused for every event fired afterward.<br/>
+ * If the event class is broken (missing or non-public SIGNATURE, or no constructor matching it), the problem is logged once at
+ * registration time and the factory is marked as broken, instead of erroring on every fire.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString(of = "eventClass")
+public final class EventFactory<T extends PaneEvent> {
+	private static final ConcurrentMap<Class<?>, EventFactory<?>> factories = Maps.newConcurrentMap();
+	
+	/**
+	 * The event class this factory creates.
+	 */
+	@Getter Class<T> eventClass;
+	/**
+	 * The constructor signature declared by the event class, or null if it's broken.
+	 */
+	@Getter Class<?>[] signature;
+	Constructor<T> constructor;
+	
+	private EventFactory(final Class<T> eventClass, final Class<?>[] signature, final Constructor<T> constructor) {
+		this.eventClass = eventClass;
+		this.signature = signature;
+		this.constructor = constructor;
+	}
+	
+	/**
+	 * @return <code>true</code> if the event class this factory is for could not be resolved, and no events can be created.
+	 */
+	public boolean isBroken() {
+		return constructor == null;
+	}
+	
+	/**
+	 * @return <code>true</code> if the passed arguments match this factory's SIGNATURE, in number and in type. <code>null</code> is
+	 *         accepted for anything that isn't a primitive.
+	 */
+	public boolean accepts(final Object... constructorArgs) {
+		if (signature == null || constructorArgs.length != signature.length) return false;
+		for (int i = 0; i < signature.length; i++) {
+			if (constructorArgs[i] == null) {
+				if (signature[i].isPrimitive()) return false;
+			} else if (!Primitives.wrap(signature[i]).isInstance(constructorArgs[i])) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Creates a new event using the cached constructor.
+	 * 
+	 * @param constructorArgs
+	 *            The arguments to pass to the event's constructor.
+	 * @return The instantiated event, or <code>null</code> if this factory is broken or the constructor failed.
+	 */
+	public T create(final Object... constructorArgs) {
+		if (constructor == null) return null;
+		try {
+			return constructor.newInstance(constructorArgs);
+		} catch (final IllegalArgumentException e) {
+			ErrorReporter.report(this, "EventSystem", "Arguments passed when firing " + eventClass.getName()
+					+ " do not match its SIGNATURE", e);
+		} catch (final InvocationTargetException e) {
+			ErrorReporter.report(this, "EventSystem", "Constructor of event class " + eventClass.getName()
+					+ " threw an exception", e.getCause());
+		} catch (final Exception e) {
+			ErrorReporter.report(this, "EventSystem", "Could not create event of class " + eventClass.getName(), e);
+		}
+		return null;
+	}
+	
+	/**
+	 * Gets the factory for the passed event class, registering it if this is the first time it has been seen.
+	 * 
+	 * @param eventClass
+	 *            The event class to get a factory for.
+	 * @return The factory. Never null, but may be {@link #isBroken() broken}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends PaneEvent> EventFactory<T> of(final @NonNull Class<T> eventClass) {
+		final EventFactory<T> factory = (EventFactory<T>) factories.get(eventClass);
+		if (factory != null) return factory;
+		return register(eventClass);
+	}
+	
+	/**
+	 * Registers the passed event class, resolving and validating it's SIGNATURE and constructor. Problems are logged here, once, and
+	 * result in a broken factory. Registering a class more than once returns the existing factory.
+	 * 
+	 * @param eventClass
+	 *            The event class to register.
+	 * @return The factory for the event class.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends PaneEvent> EventFactory<T> register(final @NonNull Class<T> eventClass) {
+		final EventFactory<T> existing = (EventFactory<T>) factories.get(eventClass);
+		if (existing != null) return existing;
+		final EventFactory<T> created = resolve(eventClass);
+		final EventFactory<T> raced = (EventFactory<T>) factories.putIfAbsent(eventClass, created);
+		return raced == null ? created : raced;
+	}
+	
+	private static <T extends PaneEvent> EventFactory<T> resolve(final Class<T> eventClass) {
+		// now we'll find the signature... i hate how many lines all the exception garbage takes.
+		Class<?>[] constructorTypes;
+		try {
+			constructorTypes = (Class<?>[]) eventClass.getField("SIGNATURE").get(null);
+		} catch (final SecurityException e) {
+			reportSecurityProblem(e);
+			return new EventFactory<T>(eventClass, null, null);
+		} catch (final IllegalAccessException e) {
+			e.printStackTrace();
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
+							+ "'s SIGNATURE field is non-public!");
+			return new EventFactory<T>(eventClass, null, null);
+		} catch (final NoSuchFieldException e) {
+			e.printStackTrace();
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
+							+ " does not declare static field SIGNATURE!");
+			return new EventFactory<T>(eventClass, null, null);
+		} catch (final ClassCastException e) {
+			e.printStackTrace();
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
+							+ "'s SIGNATURE field is not a Class<?>[]!");
+			return new EventFactory<T>(eventClass, null, null);
+		} catch (final NullPointerException e) {
+			e.printStackTrace();
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Event class " + eventClass.getName()
+							+ "'s SIGNATURE field is not static!");
+			return new EventFactory<T>(eventClass, null, null);
+		}
+		if (constructorTypes == null) {
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Event class " + eventClass.getName() + "'s SIGNATURE field is null!");
+			return new EventFactory<T>(eventClass, null, null);
+		}
+		// then the constructor that matches it
+		Constructor<T> constructor;
+		try {
+			constructor = eventClass.getConstructor(constructorTypes);
+			constructor.setAccessible(true);
+		} catch (final SecurityException e) {
+			reportSecurityProblem(e);
+			return new EventFactory<T>(eventClass, constructorTypes, null);
+		} catch (final NoSuchMethodException e) {
+			e.printStackTrace();
+			final StringBuilder types = new StringBuilder();
+			for (int i = 0; i < constructorTypes.length; i++) {
+				types.append(constructorTypes[i].getName());
+				if (i == constructorTypes.length - 2) {
+					types.append(" and ");
+				} else if (i < constructorTypes.length - 2) {
+					types.append(", ");
+				}
+			}
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] No constructor for event class " + eventClass.getName()
+							+ " matching the call spec of " + types + "!");
+			return new EventFactory<T>(eventClass, constructorTypes, null);
+		}
+		return new EventFactory<T>(eventClass, constructorTypes, constructor);
+	}
+	
+	private static void reportSecurityProblem(final SecurityException e) {
+		e.printStackTrace();
+		if (System.getSecurityManager() == null) {
+			GlassPaneMod.inst
+					.getLog()
+					.error("[GlassPane] [EventSystem] A SecurityException was thrown, but there's no SecurityManager registered...");
+		} else
+			throw new PaneCantContinueError("Security manager (" + System.getSecurityManager().getClass().getName()
+					+ ") prevents proper operation of the GlassPane event system!", e);
+	}
+}
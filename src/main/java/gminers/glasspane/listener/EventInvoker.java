@@ -0,0 +1,21 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+
+
+/**
+ * Calls a single listener method with an event. Invokers are created once per listener class and method, and shared between every
+ * object of that class that gets registered.
+ */
+public interface EventInvoker {
+	/**
+	 * Invokes the handler on the passed listener object.
+	 * 
+	 * @param listener
+	 *            The object the handler method belongs to
+	 * @param event
+	 *            The event to pass to the handler
+	 */
+	public void invoke(Object listener, PaneEvent event) throws Throwable;
+}
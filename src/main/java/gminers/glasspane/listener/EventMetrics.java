@@ -0,0 +1,222 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+
+/**
+ * Counts how often events are fired and handled, and how long it takes. Off by default; while it's off, dispatch doesn't look at the
+ * clock or touch anything in here, so it costs a single boolean check per dispatch.<br/>
+ * Events are counted per fired event class, from the moment the first handler is called to the moment the last one returns, and
+ * handlers are counted per handler method, so every instance of a listener class shares the same numbers.<br/>
+ * Counting is done on the client thread without any locking. Reading the numbers from another thread works, but they may be slightly out
+ * of date.
+ */
+public final class EventMetrics {
+	private static final ConcurrentMap<Class<? extends PaneEvent>, Stats> events = Maps.newConcurrentMap();
+	private static final ConcurrentMap<ListenerMethod, Stats> handlers = Maps.newConcurrentMap();
+	/**
+	 * Whether or not dispatches are being counted. Off by default.
+	 */
+	@Getter @Setter private static boolean enabled = false;
+	
+	private EventMetrics() {}
+	
+	static void fired(final Class<? extends PaneEvent> eventClass, final PaneEvent event, final long nanos) {
+		Stats stats = events.get(eventClass);
+		if (stats == null) {
+			stats = new Stats(eventClass.getName());
+			final Stats raced = events.putIfAbsent(eventClass, stats);
+			if (raced != null) {
+				stats = raced;
+			}
+		}
+		stats.record(event.isConsumed(), nanos);
+	}
+	
+	static void handled(final ListenerMethod method, final boolean consumed, final long nanos) {
+		Stats stats = handlers.get(method);
+		if (stats == null) {
+			stats = new Stats(method.getDeclaringClass().getName() + "#" + method.getName() + "("
+					+ method.getEventClass().getSimpleName() + ")");
+			final Stats raced = handlers.putIfAbsent(method, stats);
+			if (raced != null) {
+				stats = raced;
+			}
+		}
+		stats.record(consumed, nanos);
+	}
+	
+	/**
+	 * @return A snapshot of the stats for every event class that's been fired while metrics were enabled.
+	 */
+	public static Map<Class<? extends PaneEvent>, Stats> getEventStats() {
+		return ImmutableMap.copyOf(events);
+	}
+	
+	/**
+	 * @return A snapshot of the stats for every handler that's been called while metrics were enabled.
+	 */
+	public static Map<ListenerMethod, Stats> getHandlerStats() {
+		return ImmutableMap.copyOf(handlers);
+	}
+	
+	/**
+	 * @return The stats for the passed event class, or <code>null</code> if it hasn't been fired while metrics were enabled.
+	 */
+	public static Stats getStats(final Class<? extends PaneEvent> eventClass) {
+		return events.get(eventClass);
+	}
+	
+	/**
+	 * Forgets everything that's been counted so far.
+	 */
+	public static void reset() {
+		events.clear();
+		handlers.clear();
+	}
+	
+	/**
+	 * Writes a human-readable table of everything that's been counted so far to the passed file, busiest first.
+	 * 
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	public static void dump(final File file) throws IOException {
+		final PrintWriter w = new PrintWriter(new FileWriter(file));
+		try {
+			w.println("Glass Pane event metrics");
+			w.println();
+			w.println("== Events ==");
+			dump(w, events);
+			w.println();
+			w.println("== Handlers ==");
+			dump(w, handlers);
+		} finally {
+			w.close();
+		}
+	}
+	
+	private static void dump(final PrintWriter w, final Map<?, Stats> map) {
+		final List<Stats> sorted = Lists.newArrayList(map.values());
+		// the ones eating the most time are the ones people are looking for
+		Collections.sort(sorted, new Comparator<Stats>() {
+			@Override
+			public int compare(final Stats a, final Stats b) {
+				return a.totalNanos < b.totalNanos ? 1 : a.totalNanos > b.totalNanos ? -1 : 0;
+			}
+		});
+		w.println(String.format("%-80s %10s %10s %12s %10s %10s %10s", "name", "count", "consumed", "total ms", "mean us",
+				"p99 us", "max us"));
+		for (final Stats s : sorted) {
+			w.println(String.format("%-80s %10d %10d %12.3f %10.1f %10.1f %10.1f", s.name, s.count, s.consumed,
+					s.totalNanos / 1000000.0, s.getMeanNanos() / 1000.0, s.getPercentileNanos(0.99) / 1000.0,
+					s.maxNanos / 1000.0));
+		}
+	}
+	
+	/**
+	 * The numbers counted for a single event class or handler. Latencies are kept as a histogram with power-of-two buckets, so percentiles
+	 * are only accurate to within a factor of two.
+	 */
+	@Getter
+	@FieldDefaults(level = AccessLevel.PRIVATE)
+	@ToString(of = {
+			"name",
+			"count",
+			"consumed",
+			"totalNanos"
+	})
+	public static final class Stats {
+		/**
+		 * The event class or handler these stats are for.
+		 */
+		final String name;
+		/**
+		 * How many times the event was fired, or the handler was called.
+		 */
+		long count;
+		/**
+		 * How many of those ended up consumed. For handlers, how many times the handler was the one that consumed it.
+		 */
+		long consumed;
+		/**
+		 * The total time spent, in nanoseconds.
+		 */
+		long totalNanos;
+		/**
+		 * The longest single dispatch or call, in nanoseconds.
+		 */
+		long maxNanos;
+		/**
+		 * Bucket i counts the calls that took at least 2^i, and less than 2^(i+1), nanoseconds. Bucket 0 also has the ones that were too
+		 * fast to measure.
+		 */
+		@Getter(AccessLevel.NONE) final long[] histogram = new long[64];
+		
+		Stats(final String name) {
+			this.name = name;
+		}
+		
+		void record(final boolean consumed, final long nanos) {
+			count++;
+			if (consumed) {
+				this.consumed++;
+			}
+			totalNanos += nanos;
+			if (nanos > maxNanos) {
+				maxNanos = nanos;
+			}
+			histogram[nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos)]++;
+		}
+		
+		/**
+		 * @return The mean time spent per dispatch or call, in nanoseconds.
+		 */
+		public double getMeanNanos() {
+			return count == 0 ? 0 : (double) totalNanos / count;
+		}
+		
+		/**
+		 * @return A copy of the latency histogram. See {@link #getPercentileNanos(double)} for a more useful view of it.
+		 */
+		public long[] getHistogram() {
+			return histogram.clone();
+		}
+		
+		/**
+		 * @param fraction
+		 *            The percentile to find, between 0 and 1. 0.99 is the 99th percentile.
+		 * @return The upper bound of the histogram bucket the passed percentile falls in, in nanoseconds.
+		 */
+		public long getPercentileNanos(final double fraction) {
+			final long target = (long) Math.ceil(count * fraction);
+			long seen = 0;
+			for (int i = 0; i < histogram.length; i++) {
+				seen += histogram[i];
+				if (seen >= target && seen > 0) return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+			}
+			return 0;
+		}
+	}
+}
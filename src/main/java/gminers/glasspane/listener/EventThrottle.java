@@ -0,0 +1,82 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.event.RecyclableEvent;
+
+
+/**
+ * The timing state for a single registered handler that's throttled, debounced or coalesced. Events that arrive when the handler can't
+ * be called yet are held here, with each newer event replacing the one before it, until the owning {@link ListenerTable} is
+ * {@link ListenerTable#flush() flushed} after they're due.
+ */
+final class EventThrottle {
+	private final int throttleTicks;
+	private final int debounceTicks;
+	private final boolean coalesce;
+	// far enough back that the first event always goes straight through, but not so far that subtracting from it overflows
+	private long lastCall = Long.MIN_VALUE / 2;
+	private long due;
+	private PaneEvent held;
+	
+	EventThrottle(final ListenerMethod method) {
+		throttleTicks = method.getThrottleTicks();
+		debounceTicks = method.getDebounceTicks();
+		coalesce = method.isCoalesce();
+	}
+	
+	/**
+	 * @return <code>true</code> if the handler should be called with the event right now, <code>false</code> if it's been held instead.
+	 */
+	boolean offer(final PaneEvent event, final long now) {
+		if (debounceTicks > 0) {
+			// every new event pushes the deadline back
+			hold(event, now + debounceTicks);
+			return false;
+		}
+		if (throttleTicks > 0) {
+			if (held == null && now - lastCall >= throttleTicks) {
+				lastCall = now;
+				return true;
+			}
+			// anything else in the window waits for the window to end, and only the latest one gets through
+			hold(event, lastCall + throttleTicks);
+			return false;
+		}
+		if (coalesce) {
+			// delivered next flush, which is at most a tick away
+			hold(event, now);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * @return <code>true</code> if an event is being held.
+	 */
+	boolean isHolding() {
+		return held != null;
+	}
+	
+	/**
+	 * Takes the held event, if it's due.
+	 * 
+	 * @return The held event, or <code>null</code> if there isn't one or it isn't due yet.
+	 */
+	PaneEvent poll(final long now) {
+		if (held == null || now < due) return null;
+		final PaneEvent event = held;
+		held = null;
+		lastCall = now;
+		return event;
+	}
+	
+	private void hold(final PaneEvent event, final long due) {
+		if (event instanceof RecyclableEvent) {
+			// it's going to outlive this dispatch, keep it out of the pool
+			event.retain();
+		}
+		held = event;
+		this.due = due;
+	}
+}
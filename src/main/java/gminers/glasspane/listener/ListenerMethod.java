@@ -0,0 +1,114 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+
+import java.lang.reflect.Method;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+
+/**
+ * Metadata for a single {@link PaneEventHandler} method on a listener class. Computed once per class by {@link ListenerMethods}, and
+ * shared between every registered object of that class.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString(of = {
+		"declaringClass",
+		"name",
+		"eventClass"
+})
+@Getter
+public final class ListenerMethod {
+	/**
+	 * The listener class this handler was found on.
+	 */
+	Class<?> declaringClass;
+	/**
+	 * The name of the handler method.
+	 */
+	String name;
+	/**
+	 * The event class this handler listens for.
+	 */
+	Class<? extends PaneEvent> eventClass;
+	/**
+	 * Copied from {@link PaneEventHandler#ignoreConsumed()}, so dispatch doesn't need to look up the annotation.
+	 */
+	boolean ignoreConsumed;
+	/**
+	 * Copied from {@link PaneEventHandler#capture()}.
+	 */
+	boolean capture;
+	/**
+	 * Copied from {@link PaneEventHandler#priority()}.
+	 */
+	int priority;
+	/**
+	 * Copied from {@link PaneEventHandler#throttleTicks()}.
+	 */
+	int throttleTicks;
+	/**
+	 * Copied from {@link PaneEventHandler#debounceTicks()}.
+	 */
+	int debounceTicks;
+	/**
+	 * Copied from {@link PaneEventHandler#coalesce()}.
+	 */
+	boolean coalesce;
+	/**
+	 * The invoker used to actually call the handler.
+	 */
+	EventInvoker invoker;
+	@Getter(AccessLevel.NONE) @NonFinal Method method;
+	
+	public ListenerMethod(final Class<?> declaringClass, final String name, final Class<? extends PaneEvent> eventClass,
+			final boolean ignoreConsumed, final boolean capture, final int priority, final int throttleTicks,
+			final int debounceTicks, final boolean coalesce, final EventInvoker invoker) {
+		this.declaringClass = declaringClass;
+		this.name = name;
+		this.eventClass = eventClass;
+		this.ignoreConsumed = ignoreConsumed;
+		this.capture = capture;
+		this.priority = priority;
+		this.throttleTicks = throttleTicks;
+		this.debounceTicks = debounceTicks;
+		this.coalesce = coalesce;
+		this.invoker = invoker;
+	}
+	
+	ListenerMethod(final Class<?> declaringClass, final Method method, final Class<? extends PaneEvent> eventClass,
+			final PaneEventHandler annotation) {
+		this(declaringClass, method.getName(), eventClass, annotation.ignoreConsumed(), annotation.capture(),
+				annotation.priority(), annotation.throttleTicks(), annotation.debounceTicks(), annotation.coalesce(),
+				new ReflectiveEventInvoker(method));
+		this.method = method;
+	}
+	
+	/**
+	 * @return <code>true</code> if this handler is throttled, debounced or coalesced, and so can't always be called straight away.
+	 */
+	public boolean isTimed() {
+		return throttleTicks > 0 || debounceTicks > 0 || coalesce;
+	}
+	
+	/**
+	 * Gets the reflective Method for this handler. This is only looked up when it's asked for, as nothing in dispatch needs it.
+	 * 
+	 * @return The handler's Method, or null if it can't be found.
+	 */
+	public Method getMethod() {
+		if (method == null) {
+			try {
+				method = declaringClass.getMethod(name, eventClass);
+			} catch (final NoSuchMethodException e) {
+				return null;
+			}
+		}
+		return method;
+	}
+}
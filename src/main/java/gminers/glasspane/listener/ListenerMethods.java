@@ -0,0 +1,102 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.NonNull;
+
+import com.gameminers.glasspane.internal.GlassPaneMod;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+
+/**
+ * Global cache of the {@link PaneEventHandler} methods present on each listener class. A class is only scanned the first time an object
+ * of it is registered; every registration after that reuses the same {@link ListenerMethod}s.<br/>
+ * If the listener processor generated a {@link ListenerRegistrar} for the class, it is used instead of scanning.
+ */
+public final class ListenerMethods {
+	private static final ListenerMethod[] NONE = new ListenerMethod[0];
+	private static final ConcurrentMap<Class<?>, ListenerMethod[]> cache = Maps.newConcurrentMap();
+	
+	private ListenerMethods() {}
+	
+	/**
+	 * Gets the handler methods for the passed listener class, scanning it if it hasn't been seen before.
+	 * 
+	 * @param clazz
+	 *            The listener class
+	 * @return The handlers on that class. Shared, do not modify.
+	 */
+	public static ListenerMethod[] forClass(final @NonNull Class<?> clazz) {
+		final ListenerMethod[] cached = cache.get(clazz);
+		if (cached != null) return cached;
+		ListenerMethod[] scanned = generated(clazz);
+		if (scanned == null) {
+			scanned = scan(clazz);
+		}
+		final ListenerMethod[] raced = cache.putIfAbsent(clazz, scanned);
+		return raced == null ? scanned : raced;
+	}
+	
+	private static ListenerMethod[] generated(final Class<?> clazz) {
+		final Class<?> registrarClass;
+		try {
+			registrarClass = Class.forName(clazz.getName() + ListenerRegistrar.SUFFIX, true, clazz.getClassLoader());
+		} catch (final ClassNotFoundException e) {
+			// not compiled with the processor, that's fine
+			return null;
+		} catch (final LinkageError e) {
+			return null;
+		}
+		try {
+			final ListenerMethod[] methods = ((ListenerRegistrar) registrarClass.newInstance()).getListenerMethods();
+			return methods.length == 0 ? NONE : methods;
+		} catch (final Exception e) {
+			e.printStackTrace();
+			GlassPaneMod.inst.getLog().error(
+					"[GlassPane] [EventSystem] Generated registrar " + registrarClass.getName()
+							+ " is broken, falling back to reflection for " + clazz.getName());
+			return null;
+		}
+	}
+	
+	private static ListenerMethod[] scan(final Class<?> clazz) {
+		List<ListenerMethod> found = null;
+		for (final Method m : clazz.getMethods()) {
+			// first check if we have the @PaneEventHandler annotation
+			final PaneEventHandler annotation = m.getAnnotation(PaneEventHandler.class);
+			if (annotation == null) {
+				continue;
+			}
+			// if we do, see if the method has only one parameter
+			if (m.getParameterTypes().length == 1) {
+				// and that that parameter can be cast to a PaneEvent
+				if (PaneEvent.class.isAssignableFrom(m.getParameterTypes()[0])) {
+					// first we'll cast the parameter class, which should be safe given the above check
+					@SuppressWarnings("unchecked")
+					final Class<? extends PaneEvent> eventClass = (Class<? extends PaneEvent>) m.getParameterTypes()[0];
+					if (found == null) {
+						found = Lists.newArrayList();
+					}
+					found.add(new ListenerMethod(clazz, m, eventClass, annotation));
+				} else {
+					// not a PaneEvent, print an error and continue
+					System.err
+							.println("[GlassPane] [EventSystem] Found a method with incorrect parameter types when registering listener "
+									+ clazz.getName());
+				}
+			} else {
+				// method has more than one parameter, or no parameters. print an error and continue
+				System.err
+						.println("[GlassPane] [EventSystem] Found a method with an incorrect number of parameters when registering listener "
+								+ clazz.getName());
+			}
+		}
+		return found == null ? NONE : found.toArray(new ListenerMethod[found.size()]);
+	}
+}
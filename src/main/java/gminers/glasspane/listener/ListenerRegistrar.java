@@ -0,0 +1,20 @@
+package gminers.glasspane.listener;
+
+
+/**
+ * Implemented by registrar classes generated at compile time by the Glass Pane listener processor. A registrar for a listener class
+ * <code>com.example.Foo</code> is named <code>com.example.Foo$$PaneListeners</code>, and provides {@link ListenerMethod}s whose invokers
+ * call the handlers directly, without reflection.<br/>
+ * When no registrar exists for a class, {@link ListenerMethods} falls back to finding the handlers reflectively.
+ */
+public interface ListenerRegistrar {
+	/**
+	 * The suffix appended to a listener class's binary name to get the name of it's registrar.
+	 */
+	public static final String SUFFIX = "$$PaneListeners";
+	
+	/**
+	 * @return Every handler method visible on the listener class, including inherited ones.
+	 */
+	public ListenerMethod[] getListenerMethods();
+}
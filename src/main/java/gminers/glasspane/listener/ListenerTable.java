@@ -0,0 +1,337 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.event.PropagationPhase;
+import gminers.glasspane.exception.ErrorReporter;
+import gminers.glasspane.exception.PaneCantContinueError;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import com.google.common.collect.Maps;
+
+
+/**
+ * The listeners registered on a single component. Handlers receive the event class they declared and all of it's subclasses, so a handler
+ * for PaneEvent hears everything.<br/>
+ * To keep firing cheap, the table keeps a flattened array of handlers per fired event class. It's built the first time a class is fired or
+ * checked, and rebuilt for every class it knows about whenever a handler is added or removed, so dispatch never has to look at the class
+ * hierarchy.<br/>
+ * Handlers are kept sorted by priority. Add and remove replace the arrays instead of modifying them, so a dispatch that's already running
+ * keeps iterating the snapshot it started with, even if a handler registers or unregisters listeners.<br/>
+ * Weakly registered handlers whose object has been garbage collected, and handlers {@link ErrorReporter disabled} for failing too often, are
+ * skipped, and removed once the dispatch that noticed them is done.<br/>
+ * Throttled, debounced and coalesced handlers have their events held instead of being called when it's not their time yet, and get the
+ * latest one when the table is {@link #flush() flushed}.
+ */
+@ToString
+public final class ListenerTable {
+	private static final RegisteredListener[] NONE = new RegisteredListener[0];
+	private static final Flattened EMPTY = new Flattened(NONE, 0);
+	private static final int BY_LISTENER = 0;
+	private static final int DEAD = 1;
+	private static final int EPHEMERAL = 2;
+	
+	/**
+	 * Every handler in this table, highest priority first, and in registration order within a priority.
+	 */
+	private RegisteredListener[] all = NONE;
+	/**
+	 * The handlers that receive each fired event class.
+	 */
+	private final Map<Class<? extends PaneEvent>, Flattened> dispatchTable = Maps.newHashMap();
+	/**
+	 * Whether or not any handler might have a held event waiting for {@link #flush()}.
+	 */
+	private boolean holding = false;
+	
+	/**
+	 * Adds a handler bound to the passed object, after every handler with the same or higher priority.
+	 */
+	public void add(final Object listener, final ListenerMethod method) {
+		add(listener, method, RegistrationMode.STRONG);
+	}
+	
+	/**
+	 * Adds a handler bound to the passed object, held as the passed mode says, after every handler with the same or higher priority.
+	 */
+	public void add(final Object listener, final ListenerMethod method, final RegistrationMode mode) {
+		int idx = all.length;
+		while (idx > 0 && all[idx - 1].getMethod().getPriority() < method.getPriority()) {
+			idx--;
+		}
+		final RegisteredListener[] arr = new RegisteredListener[all.length + 1];
+		System.arraycopy(all, 0, arr, 0, idx);
+		arr[idx] = new RegisteredListener(listener, method, mode);
+		System.arraycopy(all, idx, arr, idx + 1, all.length - idx);
+		all = arr;
+		rebuild();
+	}
+	
+	/**
+	 * Removes all handlers bound to the passed object.
+	 * 
+	 * @return <code>true</code> if anything was removed.
+	 */
+	public boolean remove(final Object listener) {
+		return removeMatching(BY_LISTENER, listener);
+	}
+	
+	/**
+	 * Removes all handlers registered as {@link RegistrationMode#EPHEMERAL}, along with any weak ones whose object is gone.
+	 * 
+	 * @return <code>true</code> if anything was removed.
+	 */
+	public boolean removeEphemeral() {
+		return removeMatching(EPHEMERAL, null);
+	}
+	
+	private boolean removeMatching(final int what, final Object listener) {
+		int keep = 0;
+		for (final RegisteredListener rl : all) {
+			if (!matches(rl, what, listener)) {
+				keep++;
+			}
+		}
+		if (keep == all.length) return false;
+		final RegisteredListener[] arr = keep == 0 ? NONE : new RegisteredListener[keep];
+		int i = 0;
+		for (final RegisteredListener rl : all) {
+			if (!matches(rl, what, listener)) {
+				arr[i++] = rl;
+			}
+		}
+		all = arr;
+		rebuild();
+		return true;
+	}
+	
+	private static boolean matches(final RegisteredListener rl, final int what, final Object listener) {
+		switch (what) {
+			case BY_LISTENER:
+				return rl.getListener() == listener;
+			case DEAD:
+				return rl.getListener() == null || rl.isDisabled();
+			default:
+				return rl.getMode() == RegistrationMode.EPHEMERAL || rl.getListener() == null || rl.isDisabled();
+		}
+	}
+	
+	/**
+	 * @return <code>true</code> if at least one handler is registered for the passed event class or one of it's superclasses.
+	 */
+	public boolean isListening(final Class<? extends PaneEvent> eventClass) {
+		return lookup(eventClass).listeners.length != 0;
+	}
+	
+	private Flattened lookup(final Class<? extends PaneEvent> eventClass) {
+		Flattened flat = dispatchTable.get(eventClass);
+		if (flat == null) {
+			flat = flatten(eventClass);
+			dispatchTable.put(eventClass, flat);
+		}
+		return flat;
+	}
+	
+	private void rebuild() {
+		for (final Entry<Class<? extends PaneEvent>, Flattened> en : dispatchTable.entrySet()) {
+			en.setValue(flatten(en.getKey()));
+		}
+	}
+	
+	private Flattened flatten(final Class<? extends PaneEvent> eventClass) {
+		int count = 0;
+		for (final RegisteredListener rl : all) {
+			if (rl.getMethod().getEventClass().isAssignableFrom(eventClass)) {
+				count++;
+			}
+		}
+		if (count == 0) return EMPTY;
+		final RegisteredListener[] arr = new RegisteredListener[count];
+		int i = 0;
+		int hearsConsumed = 0;
+		for (final RegisteredListener rl : all) {
+			if (rl.getMethod().getEventClass().isAssignableFrom(eventClass)) {
+				arr[i++] = rl;
+				if (!rl.getMethod().isIgnoreConsumed()) {
+					hearsConsumed = i;
+				}
+			}
+		}
+		return new Flattened(arr, hearsConsumed);
+	}
+	
+	/**
+	 * Calls every handler registered for the passed event class, or one of it's superclasses, with the passed event.
+	 * 
+	 * @param eventClass
+	 *            The class the event was fired as
+	 * @param event
+	 *            The event to pass to the handlers
+	 * @return <code>false</code> if dispatch was aborted due to a security problem.
+	 */
+	public boolean dispatch(final Class<? extends PaneEvent> eventClass, final PaneEvent event) {
+		final Flattened flat = lookup(eventClass);
+		final RegisteredListener[] arr = flat.listeners;
+		if (arr.length == 0) return true;
+		final PropagationPhase phase = event.getPhase();
+		final boolean metrics = EventMetrics.isEnabled();
+		final long start = metrics ? System.nanoTime() : 0;
+		boolean sawDead = false;
+		for (int i = 0; i < arr.length; i++) {
+			final RegisteredListener rl = arr[i];
+			if (event.isConsumed()) {
+				// everyone left ignores consumed events, don't bother looking at them
+				if (i >= flat.hearsConsumed) {
+					break;
+				}
+				if (rl.getMethod().isIgnoreConsumed()) {
+					continue;
+				}
+			}
+			// capture handlers only hear about it on the way down, everyone else on the way up. the target hears it all
+			if (phase == PropagationPhase.CAPTURE ? !rl.getMethod().isCapture() : phase == PropagationPhase.BUBBLE
+					&& rl.getMethod().isCapture()) {
+				continue;
+			}
+			final Object listener = rl.getListener();
+			if (listener == null || rl.isDisabled()) {
+				// weakly held and collected, or failing too often. it'll get cleaned out once we're done
+				sawDead = true;
+				continue;
+			}
+			final EventThrottle throttle = rl.getThrottle();
+			if (throttle != null && !throttle.offer(event, EventClock.now())) {
+				// held until the next flush
+				holding = true;
+				continue;
+			}
+			if (!invoke(rl, listener, eventClass, event)) return false;
+			sawDead |= rl.isDisabled();
+		}
+		if (metrics) {
+			EventMetrics.fired(eventClass, event, System.nanoTime() - start);
+		}
+		if (sawDead) {
+			removeMatching(DEAD, null);
+		}
+		return true;
+	}
+	
+	/**
+	 * Calls every throttled, debounced or coalesced handler whose held event is due. Called whenever the component this table belongs to is
+	 * ticked.
+	 */
+	public void flush() {
+		if (!holding) return;
+		final long now = EventClock.now();
+		boolean stillHolding = false;
+		boolean sawDead = false;
+		for (final RegisteredListener rl : all) {
+			final EventThrottle throttle = rl.getThrottle();
+			if (throttle == null) {
+				continue;
+			}
+			final PaneEvent event = throttle.poll(now);
+			if (event == null) {
+				stillHolding |= throttle.isHolding();
+				continue;
+			}
+			final Object listener = rl.getListener();
+			if (listener == null || rl.isDisabled()) {
+				sawDead = true;
+				continue;
+			}
+			if (!invoke(rl, listener, event.getClass(), event)) {
+				// don't lose track of anything we didn't get to
+				stillHolding = true;
+				break;
+			}
+			sawDead |= rl.isDisabled();
+			stillHolding |= throttle.isHolding();
+		}
+		holding = stillHolding;
+		if (sawDead) {
+			removeMatching(DEAD, null);
+		}
+	}
+	
+	/**
+	 * @return <code>false</code> if the handler couldn't be called due to a security problem.
+	 */
+	private static boolean invoke(final RegisteredListener rl, final Object listener, final Class<? extends PaneEvent> eventClass,
+			final PaneEvent event) {
+		if (!EventMetrics.isEnabled()) return call(rl, listener, eventClass, event);
+		final boolean wasConsumed = event.isConsumed();
+		final long start = System.nanoTime();
+		final boolean result = call(rl, listener, eventClass, event);
+		EventMetrics.handled(rl.getMethod(), !wasConsumed && event.isConsumed(), System.nanoTime() - start);
+		return result;
+	}
+	
+	private static boolean call(final RegisteredListener rl, final Object listener, final Class<? extends PaneEvent> eventClass,
+			final PaneEvent event) {
+		try {
+			// you're fired
+			rl.invoke(listener, event);
+		} catch (final IllegalArgumentException e) {
+			failed(rl, "Cannot properly invoke method for event class " + eventClass.getName() + " and listener class "
+					+ listener.getClass().getName(), e);
+		} catch (final IllegalAccessException e) {
+			failed(rl, "No permission to invoke method for event class " + eventClass.getName() + " and listener class "
+					+ listener.getClass().getName(), e);
+		} catch (final SecurityException e) {
+			if (System.getSecurityManager() != null)
+				throw new PaneCantContinueError("Security manager ("
+						+ System.getSecurityManager().getClass().getName()
+						+ ") prevents proper operation of the GlassPane event system!", e);
+			failed(rl, "A SecurityException was thrown invoking method for event class " + eventClass.getName()
+					+ " and listener class " + listener.getClass().getName() + ", but there's no SecurityManager registered", e);
+			return false;
+		} catch (final InvocationTargetException e) {
+			// the reflective invoker wraps whatever the handler threw
+			threw(rl, listener, eventClass, e.getCause());
+		} catch (final Exception e) {
+			// direct invokers don't
+			threw(rl, listener, eventClass, e);
+		} catch (final Error e) {
+			// not the handler's fault, and not ours to swallow
+			throw e;
+		} catch (final Throwable t) {
+			// only a Throwable that's neither an Exception nor an Error gets here
+			threw(rl, listener, eventClass, t);
+		}
+		return true;
+	}
+	
+	private static void threw(final RegisteredListener rl, final Object listener, final Class<? extends PaneEvent> eventClass,
+			final Throwable t) {
+		if (t instanceof Error) throw (Error) t;
+		failed(rl, "Invocation of method " + rl.getMethod().getName() + " for event class " + eventClass.getName()
+				+ " and listener class " + listener.getClass().getName() + " threw an exception", t);
+	}
+	
+	private static void failed(final RegisteredListener rl, final String message, final Throwable t) {
+		// handlers can be called every frame, so don't just dump a stack trace every time
+		if (ErrorReporter.report(rl, "EventSystem", message, t)) {
+			rl.disable();
+		}
+	}
+	
+	/**
+	 * The handlers for a single fired event class.
+	 */
+	@RequiredArgsConstructor
+	private static final class Flattened {
+		final RegisteredListener[] listeners;
+		/**
+		 * The index after the last handler that still wants consumed events. Once the event is consumed, dispatch can stop here.
+		 */
+		final int hearsConsumed;
+	}
+}
@@ -9,7 +9,10 @@ import java.lang.annotation.Target;
 
 
 /**
- * Annotate a method with this annotation to allow it to be registered as an event listener.
+ * Annotate a method with this annotation to allow it to be registered as an event listener.<br/>
+ * The method receives events of it's parameter's type, and all of it's subclasses - a handler taking PaneEvent receives every event.<br/>
+ * Throttled, debounced and coalesced handlers receive their held events when the component they're registered on is next ticked, so they
+ * can't do anything that relies on the event not having happened yet, like consuming it.
  * 
  * @author Aesen Vismea
  * 
@@ -24,4 +27,34 @@ public @interface PaneEventHandler {
 	 * True to make this handler be skipped if the event has been consumed.
 	 */
 	public boolean ignoreConsumed() default false;
+	
+	/**
+	 * True to make this handler receive the event in the capture phase, on it's way down to the target, instead of the bubble phase on it's
+	 * way back up. Handlers on the target itself receive it either way.
+	 */
+	public boolean capture() default false;
+	
+	/**
+	 * The priority of this handler. Handlers with higher priorities are called first, and handlers with the same priority are called in
+	 * the order they were registered.
+	 */
+	public int priority() default 0;
+	
+	/**
+	 * If positive, this handler is called at most once every this many ticks. Events that arrive before that are held, and only the
+	 * latest one is delivered once the time is up.
+	 */
+	public int throttleTicks() default 0;
+	
+	/**
+	 * If positive, this handler is only called once this many ticks have passed without another event arriving, with the latest one.
+	 * Takes precedence over {@link #throttleTicks()}.
+	 */
+	public int debounceTicks() default 0;
+	
+	/**
+	 * True to make this handler be called at most once per tick, with the latest event fired since the last time it was called. Implied by
+	 * {@link #throttleTicks()} and {@link #debounceTicks()}.
+	 */
+	public boolean coalesce() default false;
 }
@@ -0,0 +1,33 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+
+import java.lang.reflect.Method;
+
+import lombok.AccessLevel;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+
+/**
+ * An EventInvoker that calls it's handler through reflection. The method is made accessible once, when the invoker is created, instead of
+ * on every call.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public final class ReflectiveEventInvoker
+		implements EventInvoker {
+	Method method;
+	
+	public ReflectiveEventInvoker(final Method method) {
+		this.method = method;
+		// listener objects are very often anonymous classes, whose methods can't be called from here without this
+		method.setAccessible(true);
+	}
+	
+	@Override
+	public void invoke(final Object listener, final PaneEvent event) throws Throwable {
+		method.invoke(listener, event);
+	}
+}
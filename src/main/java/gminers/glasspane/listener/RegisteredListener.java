@@ -0,0 +1,74 @@
+package gminers.glasspane.listener;
+
+
+import gminers.glasspane.event.PaneEvent;
+import gminers.glasspane.exception.ErrorReporter;
+
+import java.lang.ref.WeakReference;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+
+/**
+ * A handler method bound to the object it was registered with.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public final class RegisteredListener {
+	@Getter(AccessLevel.NONE) Object strong;
+	@Getter(AccessLevel.NONE) WeakReference<Object> weak;
+	/**
+	 * The handler.
+	 */
+	@Getter ListenerMethod method;
+	/**
+	 * How the object is held.
+	 */
+	@Getter RegistrationMode mode;
+	/**
+	 * The held event and timing for throttled, debounced and coalesced handlers, null for everyone else.
+	 */
+	@Getter(AccessLevel.PACKAGE) EventThrottle throttle;
+	/**
+	 * Whether or not this handler has been disabled for failing too often. See {@link ErrorReporter}.
+	 */
+	@Getter @NonFinal boolean disabled = false;
+	
+	public RegisteredListener(final Object listener, final ListenerMethod method, final RegistrationMode mode) {
+		if (mode == RegistrationMode.STRONG) {
+			strong = listener;
+			weak = null;
+		} else {
+			strong = null;
+			weak = new WeakReference<Object>(listener);
+		}
+		this.method = method;
+		this.mode = mode;
+		throttle = method.isTimed() ? new EventThrottle(method) : null;
+	}
+	
+	/**
+	 * @return The object the handler is called on, or null if it was weakly held and has been garbage collected.
+	 */
+	public Object getListener() {
+		return weak == null ? strong : weak.get();
+	}
+	
+	/**
+	 * Stops this handler from being called again. The table it's in drops it at the end of the next dispatch.
+	 */
+	void disable() {
+		disabled = true;
+	}
+	
+	/**
+	 * Calls the handler on the passed listener object, which should be the one returned by {@link #getListener()}.
+	 */
+	public void invoke(final Object listener, final PaneEvent event) throws Throwable {
+		method.getInvoker().invoke(listener, event);
+	}
+}
@@ -0,0 +1,22 @@
+package gminers.glasspane.listener;
+
+
+/**
+ * How strongly a component holds on to an object registered with it as a listener.
+ */
+public enum RegistrationMode {
+	/**
+	 * The component keeps the listener alive until it's unregistered. This is the default.
+	 */
+	STRONG,
+	/**
+	 * The component doesn't keep the listener alive. Once it's been garbage collected, it's handlers are removed the next time the component
+	 * fires an event they listened for.
+	 */
+	WEAK,
+	/**
+	 * Like WEAK, but the listener is also unregistered automatically when the GlassPane the component is in is hidden. Good for listeners
+	 * that belong to a screen that will be gone once the pane is.
+	 */
+	EPHEMERAL
+}
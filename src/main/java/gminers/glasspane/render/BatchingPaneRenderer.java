@@ -0,0 +1,627 @@
+package gminers.glasspane.render;
+
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.util.ResourceLocation;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * Draws to GL, but instead of drawing every rect as soon as it's asked for, collects solid and textured quads into a single vertex
+ * stream and draws them all at once. The stream is only drawn when something that would change how the quads look actually changes -
+ * a different texture, the blend state or the scissor box, switching between solid and textured quads, or something that has to be
+ * drawn by Minecraft itself, like text - or when the frame is {@link #flush() flushed}.<br/>
+ * Textures that are in the {@link TextureAtlas} are drawn from their atlas page, so switching between them doesn't break up a batch
+ * either, as long as they're on the same page.<br/>
+ * Matrix changes don't break up a batch, and don't go to GL either. The batcher keeps track of them itself and transforms quads before
+ * adding them to the stream, and only loads it's matrix into GL when something is about to draw straight to GL - text, or anything
+ * drawn after a {@link #flush()}. Scissor boxes saved with {@link #pushScissor()} are kept track of the same way. All of this, plus
+ * skipping state changes that wouldn't change anything, means a big tree of components makes far fewer GL calls than it would through
+ * a {@link GLPaneRenderer}. How many it saved is {@link #getSavedCallCount() counted}.<br/>
+ * A <i>detached</i> batcher doesn't touch the GL matrix at all, and everything it draws is relative to whatever the GL matrix is when it
+ * started. That makes what it draws safe to put in a display list that's replayed somewhere else, which is what {@link RenderCache}
+ * does.<br/>
+ * Not thread-safe, like everything else that touches GL.
+ */
+public class BatchingPaneRenderer
+		implements PaneRenderer {
+	// x, y, z, u and v as floats, then the color as 4 bytes
+	private static final int STRIDE = 24;
+	private static final int QUAD = STRIDE * 4;
+	private static final int SOLID = 0;
+	private static final int TEXTURED = 1;
+	private static final float TEXEL = 1 / 256f;
+	
+	private final GLPaneRenderer gl = new GLPaneRenderer();
+	private final boolean detached;
+	private final FloatBuffer scratch = BufferUtils.createFloatBuffer(16);
+	/**
+	 * Whether or not to blend alpha the way it has to be for whatever's drawn to be composited again later, like when drawing into a
+	 * framebuffer that starts out transparent. Colors come out premultiplied by alpha, and alpha is accumulated instead of blended.
+	 */
+	@Getter @Setter private boolean premultiplied = false;
+	
+	private ByteBuffer vertices = BufferUtils.createByteBuffer(QUAD * 256);
+	private int quads = 0;
+	private int kind = SOLID;
+	
+	// the matrix quads are transformed by, relative to the GL matrix when the batch was started
+	private final FloatBuffer base = BufferUtils.createFloatBuffer(16);
+	private boolean baseValid = false;
+	private float[] matrix = identity(new float[16]);
+	private float[] stack = new float[16 * 8];
+	private int depth = 0;
+	// whether the GL matrix is the base, and whether it's the base times our matrix. GL only hears about our matrix when it has to
+	private boolean glAtBase = true;
+	private boolean glSynced = true;
+	private final float[] product = new float[16];
+	
+	// what we last told GL, so we don't tell it again. null or -1 means we don't know, since something else may have changed it
+	private ResourceLocation texture = null;
+	// where the last texture we were asked to bind ended up in the atlas, if anywhere
+	private TextureAtlas.Region region = null;
+	private int blend = -1;
+	private int sfactor = -1;
+	private int dfactor = -1;
+	private int scissorTest = -1;
+	private int scissorX, scissorY, scissorWidth = -1, scissorHeight;
+	private int tint = 0xFFFFFFFF;
+	// scissor states saved by pushScissor, 5 ints each - test, x, y, width, and height. a test of -1 means it was saved by GL instead
+	private int[] scissorStack = new int[5 * 8];
+	private int scissorDepth = 0;
+	
+	/**
+	 * The number of times the vertex stream has been drawn since the last {@link #resetCounters()}.
+	 */
+	@Getter private int batchCount = 0;
+	/**
+	 * The number of quads drawn since the last {@link #resetCounters()}.
+	 */
+	@Getter private int quadCount = 0;
+	/**
+	 * The number of GL calls that were skipped since the last {@link #resetCounters()}, because they wouldn't have changed anything, or
+	 * because the batcher kept track of what they'd do itself.
+	 */
+	@Getter private int savedCallCount = 0;
+	
+	public BatchingPaneRenderer() {
+		this(false);
+	}
+	
+	/**
+	 * @param detached
+	 *            <code>true</code> to leave the GL matrix alone, and draw everything relative to where it was when the batcher started.
+	 */
+	public BatchingPaneRenderer(final boolean detached) {
+		this.detached = detached;
+	}
+	
+	boolean isDetached() {
+		return detached;
+	}
+	
+	public void resetCounters() {
+		batchCount = 0;
+		quadCount = 0;
+		savedCallCount = 0;
+	}
+	
+	/**
+	 * Draws everything that's been collected, and forgets what state GL is in, since whoever draws next may change it. Must be called
+	 * before anything draws straight to GL, and at the end of every frame.
+	 */
+	@Override
+	public void flush() {
+		draw();
+		forget();
+		// the GL matrix may be changed from under us at the top level, so the next batch has to look at it again
+		if (depth == 0) {
+			baseValid = false;
+		} else if (!detached) {
+			// and whatever draws next is expecting it to be where we are, and could leave it anywhere
+			syncMatrix();
+			glSynced = false;
+			glAtBase = false;
+		}
+	}
+	
+	private void draw() {
+		if (quads == 0) return;
+		if (!detached && !glAtBase) {
+			base.rewind();
+			GL11.glLoadMatrix(base);
+			glAtBase = true;
+			glSynced = false;
+		}
+		GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+		GL11.glEnableClientState(GL11.GL_COLOR_ARRAY);
+		vertices.position(0);
+		GL11.glVertexPointer(3, GL11.GL_FLOAT, STRIDE, vertices);
+		vertices.position(20);
+		GL11.glColorPointer(4, true, STRIDE, vertices);
+		if (kind == TEXTURED) {
+			GL11.glEnableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+			vertices.position(12);
+			GL11.glTexCoordPointer(2, GL11.GL_FLOAT, STRIDE, vertices);
+		} else {
+			// same state kitchensink sets up for solid rects
+			GL11.glDisable(GL11.GL_TEXTURE_2D);
+			GL11.glEnable(GL11.GL_BLEND);
+			applyBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+			GL11.glShadeModel(GL11.GL_SMOOTH);
+		}
+		vertices.position(0);
+		GL11.glDrawArrays(GL11.GL_QUADS, 0, quads * 4);
+		if (kind == TEXTURED) {
+			GL11.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+		} else {
+			GL11.glShadeModel(GL11.GL_FLAT);
+			GL11.glEnable(GL11.GL_TEXTURE_2D);
+			if (blend != 1) {
+				GL11.glDisable(GL11.GL_BLEND);
+				blend = 0;
+			}
+			if (sfactor != -1) {
+				applyBlendFunc(sfactor, dfactor);
+			} else {
+				sfactor = GL11.GL_SRC_ALPHA;
+				dfactor = GL11.GL_ONE_MINUS_SRC_ALPHA;
+			}
+		}
+		GL11.glDisableClientState(GL11.GL_COLOR_ARRAY);
+		GL11.glDisableClientState(GL11.GL_VERTEX_ARRAY);
+		batchCount++;
+		quadCount += quads;
+		quads = 0;
+	}
+	
+	/**
+	 * Gets the GL matrix ready for something that's about to draw straight to GL. Attached batchers keep the GL matrix up to date, but
+	 * detached ones have to put theirs on top of it first.
+	 */
+	private void beginDirect() {
+		if (!detached) {
+			syncMatrix();
+		} else {
+			GL11.glPushMatrix();
+			scratch.clear();
+			scratch.put(matrix);
+			scratch.flip();
+			GL11.glMultMatrix(scratch);
+		}
+	}
+	
+	private void endDirect() {
+		if (detached) {
+			GL11.glPopMatrix();
+		}
+	}
+	
+	/**
+	 * Loads the base times our matrix into GL, if it isn't there already.
+	 */
+	private void syncMatrix() {
+		if (glSynced || !baseValid) return;
+		final float[] m = matrix;
+		final float[] p = product;
+		for (int c = 0; c < 4; c++) {
+			for (int r = 0; r < 4; r++) {
+				p[c * 4 + r] = base.get(r) * m[c * 4] + base.get(4 + r) * m[c * 4 + 1] + base.get(8 + r) * m[c * 4 + 2]
+						+ base.get(12 + r) * m[c * 4 + 3];
+			}
+		}
+		scratch.clear();
+		scratch.put(p);
+		scratch.flip();
+		GL11.glLoadMatrix(scratch);
+		glSynced = true;
+		glAtBase = false;
+	}
+	
+	/**
+	 * Makes a matrix change at the top level, where it has to go to GL, since nobody pushed a matrix for us to keep track of it in.
+	 */
+	private void topLevelMatrixChange() {
+		draw();
+		baseValid = false;
+	}
+	
+	private void applyBlendFunc(final int sfactor, final int dfactor) {
+		if (premultiplied) {
+			OpenGlHelper.glBlendFunc(sfactor, dfactor, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+		} else {
+			GL11.glBlendFunc(sfactor, dfactor);
+		}
+	}
+	
+	/**
+	 * Forgets what texture, blending, and scissor state GL is in, without drawing anything. For when something changed it behind our
+	 * back, like a display list being replayed.
+	 */
+	void forget() {
+		texture = null;
+		blend = -1;
+		sfactor = -1;
+		dfactor = -1;
+		scissorTest = -1;
+		scissorWidth = -1;
+	}
+	
+	/**
+	 * Starts measuring quads from whatever the GL matrix is right now.
+	 */
+	private void rebase() {
+		draw();
+		base.clear();
+		GL11.glGetFloat(GL11.GL_MODELVIEW_MATRIX, base);
+		identity(matrix);
+		baseValid = true;
+		glAtBase = true;
+		glSynced = true;
+	}
+	
+	private void begin(final int kind) {
+		if (!baseValid && !detached) {
+			rebase();
+		}
+		if (this.kind != kind) {
+			draw();
+			this.kind = kind;
+		}
+		if ((quads + 1) * QUAD > vertices.capacity()) {
+			final ByteBuffer bigger = BufferUtils.createByteBuffer(vertices.capacity() * 2);
+			vertices.position(0);
+			vertices.limit(quads * QUAD);
+			bigger.put(vertices);
+			vertices.clear();
+			vertices = bigger;
+		}
+	}
+	
+	/**
+	 * Adds a quad with the given corners, colors, and texture coordinates, in the same order Minecraft draws them.
+	 */
+	private void quad(final float x0, final float y0, final float x1, final float y1, final float u0, final float v0,
+			final float u1, final float v1, final int topLeft, final int topRight, final int bottomLeft, final int bottomRight) {
+		int pos = quads * QUAD;
+		pos = vertex(pos, x0, y1, u0, v1, bottomLeft);
+		pos = vertex(pos, x1, y1, u1, v1, bottomRight);
+		pos = vertex(pos, x1, y0, u1, v0, topRight);
+		vertex(pos, x0, y0, u0, v0, topLeft);
+		quads++;
+	}
+	
+	private int vertex(final int pos, final float x, final float y, final float u, final float v, final int argb) {
+		final float[] m = matrix;
+		vertices.putFloat(pos, m[0] * x + m[4] * y + m[12]);
+		vertices.putFloat(pos + 4, m[1] * x + m[5] * y + m[13]);
+		vertices.putFloat(pos + 8, m[2] * x + m[6] * y + m[14]);
+		vertices.putFloat(pos + 12, u);
+		vertices.putFloat(pos + 16, v);
+		vertices.put(pos + 20, (byte) (argb >> 16));
+		vertices.put(pos + 21, (byte) (argb >> 8));
+		vertices.put(pos + 22, (byte) argb);
+		vertices.put(pos + 23, (byte) (argb >> 24));
+		return pos + STRIDE;
+	}
+	
+	@Override
+	public void drawRect(final int left, final int top, final int right, final int bottom, final int color) {
+		begin(SOLID);
+		quad(Math.min(left, right), Math.min(top, bottom), Math.max(left, right), Math.max(top, bottom), 0, 0, 0, 0, color,
+				color, color, color);
+	}
+	
+	@Override
+	public void drawGradientRect(final int left, final int top, final int right, final int bottom, final int topColor,
+			final int bottomColor) {
+		begin(SOLID);
+		quad(left, top, right, bottom, 0, 0, 0, 0, topColor, topColor, bottomColor, bottomColor);
+	}
+	
+	@Override
+	public void drawHorzGradientRect(final int left, final int top, final int right, final int bottom, final int leftColor,
+			final int rightColor) {
+		begin(SOLID);
+		quad(left, top, right, bottom, 0, 0, 0, 0, leftColor, rightColor, leftColor, rightColor);
+	}
+	
+	@Override
+	public void bindTexture(final ResourceLocation texture) {
+		if (TextureAtlas.isDirty()) {
+			// the pages are about to be rebuilt, and the one that's bound may go away
+			draw();
+			this.texture = null;
+		}
+		region = TextureAtlas.get(texture);
+		final ResourceLocation actual = region == null ? texture : region.getPage();
+		if (actual.equals(this.texture)) {
+			savedCallCount++;
+			return;
+		}
+		draw();
+		Minecraft.getMinecraft().renderEngine.bindTexture(actual);
+		this.texture = actual;
+	}
+	
+	@Override
+	public void drawTexturedRect(final int x, final int y, final int u, final int v, final int width, final int height) {
+		begin(TEXTURED);
+		final TextureAtlas.Region r = region;
+		if (r == null) {
+			quad(x, y, x + width, y + height, u * TEXEL, v * TEXEL, (u + width) * TEXEL, (v + height) * TEXEL, tint, tint, tint,
+					tint);
+		} else {
+			quad(x, y, x + width, y + height, r.u(u), r.v(v), r.u(u + width), r.v(v + height), tint, tint, tint, tint);
+		}
+	}
+	
+	@Override
+	public void drawString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean shadow) {
+		draw();
+		forget();
+		beginDirect();
+		gl.drawString(font, text, x, y, color, shadow);
+		endDirect();
+	}
+	
+	@Override
+	public void drawOutlinedString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean invertedOutline) {
+		draw();
+		forget();
+		beginDirect();
+		gl.drawOutlinedString(font, text, x, y, color, invertedOutline);
+		endDirect();
+	}
+	
+	@Override
+	public void drawHoveringText(final List<String> lines, final int x, final int y, final FontRenderer font) {
+		draw();
+		forget();
+		beginDirect();
+		gl.drawHoveringText(lines, x, y, font);
+		endDirect();
+	}
+	
+	@Override
+	public void color(final float r, final float g, final float b, final float a) {
+		// colors go in the vertex stream, so this doesn't need to touch GL at all
+		final int packed = channel(a) << 24 | channel(r) << 16 | channel(g) << 8 | channel(b);
+		if (packed == tint) {
+			savedCallCount++;
+		}
+		tint = packed;
+	}
+	
+	@Override
+	public void pushMatrix() {
+		if (depth == 0 && !detached) {
+			rebase();
+		}
+		if (stack.length < (depth + 1) * 16) {
+			stack = Arrays.copyOf(stack, stack.length * 2);
+		}
+		System.arraycopy(matrix, 0, stack, depth * 16, 16);
+		depth++;
+		if (!detached) {
+			savedCallCount++;
+		}
+	}
+	
+	@Override
+	public void popMatrix() {
+		if (depth == 0) {
+			// unbalanced, so it's someone else's matrix, and we have no idea where it is now
+			draw();
+			if (!detached) {
+				GL11.glPopMatrix();
+			}
+			baseValid = false;
+			return;
+		}
+		depth--;
+		System.arraycopy(stack, depth * 16, matrix, 0, 16);
+		if (detached) return;
+		if (depth == 0 && !glAtBase) {
+			// whoever's outside of us expects the matrix to be where they left it
+			base.rewind();
+			GL11.glLoadMatrix(base);
+			glAtBase = true;
+		} else {
+			savedCallCount++;
+		}
+		// back at the top, our matrix is the base again
+		glSynced = depth == 0;
+	}
+	
+	@Override
+	public void translate(final float x, final float y, final float z) {
+		if (depth == 0 && !detached) {
+			topLevelMatrixChange();
+			GL11.glTranslatef(x, y, z);
+			return;
+		}
+		final float[] m = matrix;
+		m[12] += m[0] * x + m[4] * y + m[8] * z;
+		m[13] += m[1] * x + m[5] * y + m[9] * z;
+		m[14] += m[2] * x + m[6] * y + m[10] * z;
+		m[15] += m[3] * x + m[7] * y + m[11] * z;
+		if (!detached) {
+			glSynced = false;
+			savedCallCount++;
+		}
+	}
+	
+	@Override
+	public void scale(final float x, final float y, final float z) {
+		if (depth == 0 && !detached) {
+			topLevelMatrixChange();
+			GL11.glScalef(x, y, z);
+			return;
+		}
+		final float[] m = matrix;
+		for (int i = 0; i < 4; i++) {
+			m[i] *= x;
+			m[4 + i] *= y;
+			m[8 + i] *= z;
+		}
+		if (!detached) {
+			glSynced = false;
+			savedCallCount++;
+		}
+	}
+	
+	@Override
+	public void rotate(final float angle, final float xAxis, final float yAxis, final float zAxis) {
+		if (depth == 0 && !detached) {
+			topLevelMatrixChange();
+			GL11.glRotatef(angle, xAxis, yAxis, zAxis);
+			return;
+		}
+		final float len = (float) Math.sqrt(xAxis * xAxis + yAxis * yAxis + zAxis * zAxis);
+		if (len != 0) {
+			final float x = xAxis / len;
+			final float y = yAxis / len;
+			final float z = zAxis / len;
+			final float rad = (float) Math.toRadians(angle);
+			final float c = (float) Math.cos(rad);
+			final float s = (float) Math.sin(rad);
+			final float t = 1 - c;
+			// the same rotation matrix glRotatef builds, multiplied onto the right of ours
+			final float r0 = x * x * t + c, r1 = y * x * t + z * s, r2 = x * z * t - y * s;
+			final float r4 = x * y * t - z * s, r5 = y * y * t + c, r6 = y * z * t + x * s;
+			final float r8 = x * z * t + y * s, r9 = y * z * t - x * s, r10 = z * z * t + c;
+			final float[] m = matrix;
+			for (int i = 0; i < 4; i++) {
+				final float a = m[i], b = m[4 + i], d = m[8 + i];
+				m[i] = a * r0 + b * r1 + d * r2;
+				m[4 + i] = a * r4 + b * r5 + d * r6;
+				m[8 + i] = a * r8 + b * r9 + d * r10;
+			}
+		}
+		if (!detached) {
+			glSynced = false;
+			savedCallCount++;
+		}
+	}
+	
+	@Override
+	public void setBlend(final boolean blend) {
+		if (this.blend == (blend ? 1 : 0)) {
+			savedCallCount++;
+			return;
+		}
+		draw();
+		gl.setBlend(blend);
+		this.blend = blend ? 1 : 0;
+	}
+	
+	@Override
+	public void blendFunc(final int sfactor, final int dfactor) {
+		if (sfactor == this.sfactor && dfactor == this.dfactor) {
+			savedCallCount++;
+			return;
+		}
+		draw();
+		applyBlendFunc(sfactor, dfactor);
+		this.sfactor = sfactor;
+		this.dfactor = dfactor;
+	}
+	
+	@Override
+	public void setScissor(final boolean scissor) {
+		if (scissorTest == (scissor ? 1 : 0)) {
+			savedCallCount++;
+			return;
+		}
+		draw();
+		gl.setScissor(scissor);
+		scissorTest = scissor ? 1 : 0;
+	}
+	
+	@Override
+	public void scissor(final int x, final int y, final int width, final int height) {
+		if (x == scissorX && y == scissorY && width == scissorWidth && height == scissorHeight) {
+			savedCallCount++;
+			return;
+		}
+		draw();
+		gl.scissor(x, y, width, height);
+		scissorX = x;
+		scissorY = y;
+		scissorWidth = width;
+		scissorHeight = height;
+	}
+	
+	@Override
+	public void pushScissor() {
+		if (scissorStack.length < (scissorDepth + 1) * 5) {
+			scissorStack = Arrays.copyOf(scissorStack, scissorStack.length * 2);
+		}
+		final int i = scissorDepth * 5;
+		scissorDepth++;
+		if (scissorTest == -1 || scissorWidth == -1) {
+			// we don't know what it is, so GL has to save it
+			draw();
+			gl.pushScissor();
+			scissorStack[i] = -1;
+			return;
+		}
+		scissorStack[i] = scissorTest;
+		scissorStack[i + 1] = scissorX;
+		scissorStack[i + 2] = scissorY;
+		scissorStack[i + 3] = scissorWidth;
+		scissorStack[i + 4] = scissorHeight;
+		savedCallCount++;
+	}
+	
+	@Override
+	public void popScissor() {
+		if (scissorDepth == 0 || scissorStack[(scissorDepth - 1) * 5] == -1) {
+			if (scissorDepth > 0) {
+				scissorDepth--;
+			}
+			draw();
+			gl.popScissor();
+			// we don't know what it was popped back to
+			scissorTest = -1;
+			scissorWidth = -1;
+			return;
+		}
+		scissorDepth--;
+		final int i = scissorDepth * 5;
+		// these skip anything that didn't change while it was pushed
+		scissor(scissorStack[i + 1], scissorStack[i + 2], scissorStack[i + 3], scissorStack[i + 4]);
+		setScissor(scissorStack[i] == 1);
+		savedCallCount++;
+	}
+	
+	@Override
+	public void clear(final int color) {
+		draw();
+		gl.clear(color);
+	}
+	
+	private static int channel(final float f) {
+		return Math.max(0, Math.min(255, (int) (f * 255 + 0.5f)));
+	}
+	
+	private static float[] identity(final float[] m) {
+		Arrays.fill(m, 0);
+		m[0] = m[5] = m[10] = m[15] = 1;
+		return m;
+	}
+}
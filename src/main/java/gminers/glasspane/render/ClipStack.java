@@ -0,0 +1,361 @@
+package gminers.glasspane.render;
+
+
+import gminers.glasspane.GlassPane;
+import gminers.glasspane.component.PaneComponent;
+import gminers.glasspane.component.PaneContainer;
+import gminers.glasspane.component.PaneTransform;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraftforge.client.MinecraftForgeClient;
+
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * Keeps track of where on the screen components are being drawn, and what part of the screen they're allowed to draw in, as the
+ * component tree is rendered.<br/>
+ * Every container that draws it's children with {@link PaneContainer#renderChildren(int, int, float) renderChildren}
+ * {@link #enter(PaneContainer, float, float) enters} a new frame, so it's children know where they are on the screen without working it
+ * out from scratch. Every component that clips to it's size {@link #clip(PaneComponent) pushes} a frame with it's bounds intersected
+ * with the clip of everything above it, worked out on the CPU once on the way down, and set as the scissor box. Popping it puts the
+ * scissor box back the way it was, so nested clipped components (like scroll panels in scroll panels) can't clobber each other.<br/>
+ * Rotated components can't be clipped with a scissor box, so they're clipped with a stencil bit reserved from Forge instead, if there is
+ * one. Only one stencil clip can be active at a time - rotated clipped components inside another one are only clipped to it.<br/>
+ * Everything in here is in 'big' pixels, relative to the top left of the screen, except scissor boxes.
+ */
+public final class ClipStack {
+	private static final int ENTER = 0;
+	private static final int SCISSOR = 1;
+	private static final int STENCIL = 2;
+	private static final int NOTHING = 3;
+	
+	private static Frame[] frames = new Frame[16];
+	private static int depth = 0;
+	// window pixels per 'big' pixel
+	private static float scaleX = 1, scaleY = 1;
+	// -2 means we haven't asked Forge for one yet, -1 means there isn't one
+	private static int stencilBit = -2;
+	private static boolean stencilActive = false;
+	
+	private ClipStack() {}
+	
+	private static final class Frame {
+		int kind;
+		// the container whose children's coordinates originX and originY are for
+		PaneContainer space;
+		boolean originKnown;
+		float originX, originY;
+		boolean clipKnown;
+		float left, top, right, bottom;
+		boolean scissored;
+		int scissorX, scissorY, scissorWidth, scissorHeight;
+		int stencilWidth, stencilHeight;
+		
+		void copy(final Frame f) {
+			space = f.space;
+			originKnown = f.originKnown;
+			originX = f.originX;
+			originY = f.originY;
+			clipKnown = f.clipKnown;
+			left = f.left;
+			top = f.top;
+			right = f.right;
+			bottom = f.bottom;
+			scissored = f.scissored;
+			scissorX = f.scissorX;
+			scissorY = f.scissorY;
+			scissorWidth = f.scissorWidth;
+			scissorHeight = f.scissorHeight;
+		}
+	}
+	
+	/**
+	 * Starts a frame for a container's children.
+	 * 
+	 * @param container
+	 *            The container whose children are about to be rendered.
+	 * @param originX
+	 *            Where the container's children are drawn from, in the same coordinates as the container's position.
+	 * @param originY
+	 *            Where the container's children are drawn from, in the same coordinates as the container's position.
+	 */
+	public static void enter(final PaneContainer container, final float originX, final float originY) {
+		final Frame parent = peek();
+		final Frame f = push(ENTER);
+		final boolean rotated = container.getAngle() != 0 && container.isRotationAllowed();
+		if (container.getParent() == null) {
+			// a new hierarchy. panes are drawn from the top left of the screen, anything else could be anywhere
+			if (parent != null) {
+				f.copy(parent);
+			} else {
+				f.scissored = false;
+			}
+			f.space = container;
+			f.originKnown = container instanceof GlassPane && !rotated && container.getWidth() > 0 && container.getHeight() > 0;
+			f.originX = originX;
+			f.originY = originY;
+			if (f.originKnown) {
+				final Minecraft mc = Minecraft.getMinecraft();
+				scaleX = (float) mc.displayWidth / container.getWidth();
+				scaleY = (float) mc.displayHeight / container.getHeight();
+				if (parent != null && parent.clipKnown) {
+					f.left = Math.max(parent.left, 0);
+					f.top = Math.max(parent.top, 0);
+					f.right = Math.min(parent.right, container.getWidth());
+					f.bottom = Math.min(parent.bottom, container.getHeight());
+				} else {
+					f.left = 0;
+					f.top = 0;
+					f.right = container.getWidth();
+					f.bottom = container.getHeight();
+				}
+				f.clipKnown = true;
+			} else {
+				f.clipKnown = false;
+			}
+			return;
+		}
+		if (parent == null) {
+			f.scissored = false;
+			f.originKnown = false;
+			f.clipKnown = false;
+		} else {
+			f.copy(parent);
+			f.originKnown = parent.originKnown && parent.space == container.getParent() && !rotated;
+			f.originX = parent.originX + originX;
+			f.originY = parent.originY + originY;
+		}
+		f.space = container;
+	}
+	
+	/**
+	 * Ends the frame started by {@link #enter(PaneContainer, float, float)}.
+	 */
+	public static void exit() {
+		pop();
+	}
+	
+	/**
+	 * Clips rendering to a component's bounds, plus anything it's already clipped to. Has to be called after the component's translation
+	 * and rotation have been applied to the renderer, and balanced with a call to {@link #pop()}.
+	 * 
+	 * @return <code>false</code> if nothing of the component would be visible. Nothing is pushed in that case, and nothing should be
+	 *         drawn.
+	 */
+	public static boolean clip(final PaneComponent c) {
+		final Frame parent = peek();
+		final boolean rotated = c.getAngle() != 0 && c.isRotationAllowed();
+		if (parent != null && parent.originKnown && parent.clipKnown && parent.space == c.getParent() && !rotated) {
+			final float left = Math.max(parent.left, parent.originX + c.getX() + c.getTranslateX());
+			final float top = Math.max(parent.top, parent.originY + c.getY() + c.getTranslateY());
+			final float right = Math.min(parent.right, parent.originX + c.getX() + c.getTranslateX() + c.getWidth());
+			final float bottom = Math.min(parent.bottom, parent.originY + c.getY() + c.getTranslateY() + c.getHeight());
+			if (right <= left || bottom <= top) return false;
+			final Frame f = push(SCISSOR);
+			f.copy(parent);
+			f.left = left;
+			f.top = top;
+			f.right = right;
+			f.bottom = bottom;
+			final Minecraft mc = Minecraft.getMinecraft();
+			final int x0 = (int) Math.floor(left * scaleX);
+			final int x1 = (int) Math.ceil(right * scaleX);
+			final int y0 = (int) Math.floor(top * scaleY);
+			final int y1 = (int) Math.ceil(bottom * scaleY);
+			f.scissored = true;
+			f.scissorX = x0;
+			f.scissorY = mc.displayHeight - y1;
+			f.scissorWidth = x1 - x0;
+			f.scissorHeight = y1 - y0;
+			applyScissor(f);
+			return true;
+		}
+		final GlassPane pane = c.getGlassPane();
+		final PaneTransform screen = c.getScreenTransform();
+		if (screen.isTranslation() && pane != null && pane.getWidth() > 0 && pane.getHeight() > 0) {
+			// our parent draws it's children on it's own, so we don't know where they are - but every component knows where it is on
+			// the screen, as long as nothing above it is rotated
+			final Minecraft mc = Minecraft.getMinecraft();
+			final float sx = (float) mc.displayWidth / pane.getWidth();
+			final float sy = (float) mc.displayHeight / pane.getHeight();
+			int x0 = (int) Math.floor(screen.getM02() * sx);
+			int x1 = (int) Math.ceil((screen.getM02() + c.getWidth()) * sx);
+			int y0 = mc.displayHeight - (int) Math.ceil((screen.getM12() + c.getHeight()) * sy);
+			int y1 = mc.displayHeight - (int) Math.floor(screen.getM12() * sy);
+			if (parent != null && parent.scissored) {
+				x0 = Math.max(x0, parent.scissorX);
+				y0 = Math.max(y0, parent.scissorY);
+				x1 = Math.min(x1, parent.scissorX + parent.scissorWidth);
+				y1 = Math.min(y1, parent.scissorY + parent.scissorHeight);
+			}
+			if (x1 <= x0 || y1 <= y0) return false;
+			final Frame f = push(SCISSOR);
+			if (parent != null) {
+				f.copy(parent);
+			}
+			f.originKnown = false;
+			f.scissored = true;
+			f.scissorX = x0;
+			f.scissorY = y0;
+			f.scissorWidth = x1 - x0;
+			f.scissorHeight = y1 - y0;
+			applyScissor(f);
+			return true;
+		}
+		final Frame f = push(NOTHING);
+		if (parent != null) {
+			f.copy(parent);
+		} else {
+			f.scissored = false;
+		}
+		// we don't know exactly where this is on the screen anymore
+		f.originKnown = false;
+		if (!stencilActive && canStencil()) {
+			f.kind = STENCIL;
+			f.stencilWidth = c.getWidth();
+			f.stencilHeight = c.getHeight();
+			stencil(f.stencilWidth, f.stencilHeight, true);
+			stencilActive = true;
+		}
+		return true;
+	}
+	
+	/**
+	 * Undoes the last {@link #clip(PaneComponent)}.
+	 */
+	public static void pop() {
+		if (depth == 0) return;
+		final Frame f = frames[depth - 1];
+		depth--;
+		if (f.kind == STENCIL) {
+			stencil(f.stencilWidth, f.stencilHeight, false);
+			stencilActive = false;
+		} else if (f.kind == SCISSOR) {
+			final Frame parent = peek();
+			if (parent != null && parent.scissored) {
+				applyScissor(parent);
+			} else {
+				RenderBackend.getRenderer().setScissor(false);
+			}
+		}
+		f.space = null;
+	}
+	
+	/**
+	 * @return <code>true</code> if it's known exactly which part of the passed container's children's coordinates can be seen right now,
+	 *         and {@link #getLeft()} and friends can be used.
+	 */
+	public static boolean isKnown(final PaneContainer space) {
+		final Frame f = peek();
+		return f != null && f.space == space && f.originKnown && f.clipKnown;
+	}
+	
+	/**
+	 * @return The left edge of the area that can be seen, in the current container's children's coordinates.
+	 */
+	public static float getLeft() {
+		final Frame f = peek();
+		return f.left - f.originX;
+	}
+	
+	/**
+	 * @return The top edge of the area that can be seen, in the current container's children's coordinates.
+	 */
+	public static float getTop() {
+		final Frame f = peek();
+		return f.top - f.originY;
+	}
+	
+	/**
+	 * @return The right edge of the area that can be seen, in the current container's children's coordinates.
+	 */
+	public static float getRight() {
+		final Frame f = peek();
+		return f.right - f.originX;
+	}
+	
+	/**
+	 * @return The bottom edge of the area that can be seen, in the current container's children's coordinates.
+	 */
+	public static float getBottom() {
+		final Frame f = peek();
+		return f.bottom - f.originY;
+	}
+	
+	private static Frame peek() {
+		return depth == 0 ? null : frames[depth - 1];
+	}
+	
+	private static Frame push(final int kind) {
+		if (depth == frames.length) {
+			final Frame[] bigger = new Frame[frames.length * 2];
+			System.arraycopy(frames, 0, bigger, 0, frames.length);
+			frames = bigger;
+		}
+		Frame f = frames[depth];
+		if (f == null) {
+			f = frames[depth] = new Frame();
+		}
+		depth++;
+		f.kind = kind;
+		return f;
+	}
+	
+	private static void applyScissor(final Frame f) {
+		final PaneRenderer pr = RenderBackend.getRenderer();
+		pr.scissor(f.scissorX, f.scissorY, f.scissorWidth, f.scissorHeight);
+		pr.setScissor(true);
+	}
+	
+	private static boolean canStencil() {
+		final PaneRenderer pr = RenderBackend.getRenderer();
+		// we have to draw the stencil straight to GL, under the renderer's matrix
+		if (!(pr instanceof GLPaneRenderer) && !(pr instanceof BatchingPaneRenderer && !((BatchingPaneRenderer) pr).isDetached()))
+			return false;
+		if (stencilBit == -2) {
+			stencilBit = MinecraftForgeClient.reserveStencilBit();
+			if (stencilBit != -1 && OpenGlHelper.isFramebufferEnabled()
+					&& !Minecraft.getMinecraft().getFramebuffer().enableStencil()) {
+				MinecraftForgeClient.releaseStencilBit(stencilBit);
+				stencilBit = -1;
+			}
+		}
+		return stencilBit != -1;
+	}
+	
+	/**
+	 * Sets or clears our stencil bit in a rectangle from 0, 0 to width, height under the renderer's matrix, and turns stencil testing on or
+	 * off to match.
+	 */
+	private static void stencil(final int width, final int height, final boolean set) {
+		final int mask = 1 << stencilBit;
+		// this syncs the GL matrix with the renderer's
+		RenderBackend.getRenderer().flush();
+		if (set) {
+			GL11.glEnable(GL11.GL_STENCIL_TEST);
+		}
+		GL11.glStencilMask(mask);
+		GL11.glStencilFunc(GL11.GL_ALWAYS, set ? mask : 0, mask);
+		GL11.glStencilOp(GL11.GL_KEEP, GL11.GL_KEEP, GL11.GL_REPLACE);
+		GL11.glColorMask(false, false, false, false);
+		GL11.glDepthMask(false);
+		GL11.glDisable(GL11.GL_TEXTURE_2D);
+		GL11.glBegin(GL11.GL_QUADS);
+		GL11.glVertex2f(0, 0);
+		GL11.glVertex2f(0, height);
+		GL11.glVertex2f(width, height);
+		GL11.glVertex2f(width, 0);
+		GL11.glEnd();
+		GL11.glEnable(GL11.GL_TEXTURE_2D);
+		GL11.glDepthMask(true);
+		GL11.glColorMask(true, true, true, true);
+		GL11.glStencilOp(GL11.GL_KEEP, GL11.GL_KEEP, GL11.GL_KEEP);
+		if (set) {
+			GL11.glStencilFunc(GL11.GL_EQUAL, mask, mask);
+		} else {
+			GL11.glStencilMask(0xFF);
+			GL11.glDisable(GL11.GL_STENCIL_TEST);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package gminers.glasspane.render;
+
+
+import lombok.Getter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.shader.Framebuffer;
+
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * An offscreen framebuffer that something is drawn into every so often, and then drawn to the screen as one textured quad every frame
+ * in between. Used by {@link gminers.glasspane.GlassPane#setOverlayRefreshRate(int) overlays with a refresh rate}.<br/>
+ * The framebuffer is always the size of the window, so whatever was drawn into it lines up pixel for pixel with the screen. Anything
+ * drawn into it is blended with premultiplied alpha, so that translucent parts still look right when it's drawn over the game.
+ */
+public final class FramebufferCache {
+	private final BatchingPaneRenderer renderer = new BatchingPaneRenderer();
+	private Framebuffer framebuffer = null;
+	private PaneRenderer previous = null;
+	private boolean valid = false;
+	/**
+	 * The number of times this cache has been drawn into.
+	 */
+	@Getter private int refreshCount = 0;
+	
+	public FramebufferCache() {
+		renderer.setPremultiplied(true);
+	}
+	
+	/**
+	 * @return <code>true</code> if there's something in the framebuffer to draw, and the window hasn't been resized since it was drawn.
+	 */
+	public boolean isValid() {
+		final Minecraft mc = Minecraft.getMinecraft();
+		return valid && framebuffer.framebufferWidth == mc.displayWidth && framebuffer.framebufferHeight == mc.displayHeight;
+	}
+	
+	/**
+	 * @return <code>true</code> if framebuffers can be used at all. If they can't, whatever would be cached has to be drawn normally.
+	 */
+	public static boolean isSupported() {
+		return OpenGlHelper.isFramebufferEnabled();
+	}
+	
+	/**
+	 * Starts drawing into the framebuffer. It's cleared first, and made again if the window was resized. Everything drawn through the
+	 * {@link RenderBackend} until {@link #end()} goes into the framebuffer instead of onto the screen.
+	 */
+	public void begin() {
+		final Minecraft mc = Minecraft.getMinecraft();
+		RenderBackend.getRenderer().flush();
+		if (framebuffer == null) {
+			framebuffer = new Framebuffer(mc.displayWidth, mc.displayHeight, true);
+		} else if (framebuffer.framebufferWidth != mc.displayWidth || framebuffer.framebufferHeight != mc.displayHeight) {
+			framebuffer.createBindFramebuffer(mc.displayWidth, mc.displayHeight);
+		}
+		framebuffer.setFramebufferColor(0, 0, 0, 0);
+		framebuffer.framebufferClear();
+		framebuffer.bindFramebuffer(true);
+		previous = RenderBackend.setRenderer(renderer);
+	}
+	
+	/**
+	 * Finishes drawing into the framebuffer, and goes back to drawing onto the screen.
+	 */
+	public void end() {
+		// this flushes our renderer into the framebuffer
+		RenderBackend.setRenderer(previous);
+		previous = null;
+		Minecraft.getMinecraft().getFramebuffer().bindFramebuffer(true);
+		valid = true;
+		refreshCount++;
+	}
+	
+	/**
+	 * Draws what's in the framebuffer over the whole screen.
+	 * 
+	 * @param width
+	 *            The scaled width of the screen.
+	 * @param height
+	 *            The scaled height of the screen.
+	 */
+	public void draw(final int width, final int height) {
+		if (!valid) return;
+		// the current renderer can't know we're about to change the texture and blending out from under it
+		RenderBackend.getRenderer().flush();
+		final float u = (float) framebuffer.framebufferWidth / framebuffer.framebufferTextureWidth;
+		final float v = (float) framebuffer.framebufferHeight / framebuffer.framebufferTextureHeight;
+		framebuffer.bindFramebufferTexture();
+		GL11.glEnable(GL11.GL_BLEND);
+		GL11.glBlendFunc(GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+		GL11.glColor4f(1, 1, 1, 1);
+		// framebuffers are upside down compared to the screen
+		GL11.glBegin(GL11.GL_QUADS);
+		GL11.glTexCoord2f(0, v);
+		GL11.glVertex2f(0, 0);
+		GL11.glTexCoord2f(0, 0);
+		GL11.glVertex2f(0, height);
+		GL11.glTexCoord2f(u, 0);
+		GL11.glVertex2f(width, height);
+		GL11.glTexCoord2f(u, v);
+		GL11.glVertex2f(width, 0);
+		GL11.glEnd();
+		GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+		GL11.glDisable(GL11.GL_BLEND);
+		framebuffer.unbindFramebufferTexture();
+	}
+	
+	/**
+	 * Marks what's in the framebuffer as out of date, so it won't be drawn until it's drawn into again.
+	 */
+	public void invalidate() {
+		valid = false;
+	}
+	
+	/**
+	 * Deletes the framebuffer. The cache can still be used afterward, and will make a new one.
+	 */
+	public void free() {
+		if (framebuffer != null) {
+			framebuffer.deleteFramebuffer();
+			framebuffer = null;
+		}
+		valid = false;
+	}
+}
@@ -0,0 +1,144 @@
+package gminers.glasspane.render;
+
+
+import gminers.kitchensink.Rendering;
+
+import java.util.List;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.util.ResourceLocation;
+
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * Draws straight to GL, the same way components did before there were renderers.
+ */
+public class GLPaneRenderer
+		implements PaneRenderer {
+	@Override
+	public void drawRect(final int left, final int top, final int right, final int bottom, final int color) {
+		Rendering.drawRect(left, top, right, bottom, color);
+	}
+	
+	@Override
+	public void drawGradientRect(final int left, final int top, final int right, final int bottom, final int topColor,
+			final int bottomColor) {
+		Rendering.drawGradientRect(left, top, right, bottom, topColor, bottomColor, 0);
+	}
+	
+	@Override
+	public void drawHorzGradientRect(final int left, final int top, final int right, final int bottom, final int leftColor,
+			final int rightColor) {
+		Rendering.drawHorzGradientRect(left, top, right, bottom, leftColor, rightColor, 0);
+	}
+	
+	@Override
+	public void bindTexture(final ResourceLocation texture) {
+		Minecraft.getMinecraft().renderEngine.bindTexture(texture);
+	}
+	
+	@Override
+	public void drawTexturedRect(final int x, final int y, final int u, final int v, final int width, final int height) {
+		Rendering.drawTexturedModalRect(x, y, u, v, width, height, 0);
+	}
+	
+	@Override
+	public void drawString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean shadow) {
+		if (TextMeshCache.draw(font, text, x, y, color, shadow, false, false)) return;
+		font.drawString(text, x, y, color, shadow);
+	}
+	
+	@Override
+	public void drawOutlinedString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean invertedOutline) {
+		if (TextMeshCache.draw(font, text, x, y, color, false, true, invertedOutline)) return;
+		Rendering.drawOutlinedString(font, text, x, y, color, invertedOutline);
+	}
+	
+	@Override
+	public void drawHoveringText(final List<String> lines, final int x, final int y, final FontRenderer font) {
+		Rendering.drawHoveringText(lines, x, y, font);
+	}
+	
+	@Override
+	public void color(final float r, final float g, final float b, final float a) {
+		GL11.glColor4f(r, g, b, a);
+	}
+	
+	@Override
+	public void pushMatrix() {
+		GL11.glPushMatrix();
+	}
+	
+	@Override
+	public void popMatrix() {
+		GL11.glPopMatrix();
+	}
+	
+	@Override
+	public void translate(final float x, final float y, final float z) {
+		GL11.glTranslatef(x, y, z);
+	}
+	
+	@Override
+	public void scale(final float x, final float y, final float z) {
+		GL11.glScalef(x, y, z);
+	}
+	
+	@Override
+	public void rotate(final float angle, final float x, final float y, final float z) {
+		GL11.glRotatef(angle, x, y, z);
+	}
+	
+	@Override
+	public void setBlend(final boolean blend) {
+		if (blend) {
+			GL11.glEnable(GL11.GL_BLEND);
+		} else {
+			GL11.glDisable(GL11.GL_BLEND);
+		}
+	}
+	
+	@Override
+	public void blendFunc(final int sfactor, final int dfactor) {
+		GL11.glBlendFunc(sfactor, dfactor);
+	}
+	
+	@Override
+	public void setScissor(final boolean scissor) {
+		if (scissor) {
+			GL11.glEnable(GL11.GL_SCISSOR_TEST);
+		} else {
+			GL11.glDisable(GL11.GL_SCISSOR_TEST);
+		}
+	}
+	
+	@Override
+	public void scissor(final int x, final int y, final int width, final int height) {
+		GL11.glScissor(x, y, width, height);
+	}
+	
+	@Override
+	public void pushScissor() {
+		GL11.glPushAttrib(GL11.GL_SCISSOR_BIT);
+	}
+	
+	@Override
+	public void popScissor() {
+		GL11.glPopAttrib();
+	}
+	
+	@Override
+	public void clear(final int color) {
+		GL11.glClearColor((color >> 16 & 255) / 255f, (color >> 8 & 255) / 255f, (color & 255) / 255f, 1.0f);
+		GL11.glClear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
+	}
+	
+	@Override
+	public void flush() {
+		// everything's already been drawn
+	}
+}
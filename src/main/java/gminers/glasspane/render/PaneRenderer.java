@@ -0,0 +1,115 @@
+package gminers.glasspane.render;
+
+
+import java.util.List;
+
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.util.ResourceLocation;
+
+
+/**
+ * Everything Glass Pane's built-in components draw goes through a PaneRenderer, instead of straight to GL, so the drawing can be swapped
+ * out for something else - like a {@link RecordingPaneRenderer} on a machine without a GPU.<br/>
+ * Coordinates are in 'big' pixels, relative to the current matrix, just like in {@link gminers.glasspane.component.PaneComponent#doRender
+ * doRender}. Colors are packed ARGB, except where noted.
+ * 
+ * @see RenderBackend
+ */
+public interface PaneRenderer {
+	/**
+	 * Draws a solid rectangle.
+	 */
+	void drawRect(int left, int top, int right, int bottom, int color);
+	
+	/**
+	 * Draws a rectangle that fades from one color at the top to another at the bottom.
+	 */
+	void drawGradientRect(int left, int top, int right, int bottom, int topColor, int bottomColor);
+	
+	/**
+	 * Draws a rectangle that fades from one color on the left to another on the right.
+	 */
+	void drawHorzGradientRect(int left, int top, int right, int bottom, int leftColor, int rightColor);
+	
+	/**
+	 * Binds a texture for the following {@link #drawTexturedRect(int, int, int, int, int, int)} calls.
+	 */
+	void bindTexture(ResourceLocation texture);
+	
+	/**
+	 * Draws a portion of the bound texture, tinted with the current {@link #color(float, float, float, float) color}. U and V are in
+	 * texels of a 256x256 texture, like every other GUI texture in Minecraft.
+	 */
+	void drawTexturedRect(int x, int y, int u, int v, int width, int height);
+	
+	/**
+	 * Draws a string. The color's alpha is ignored if it's 0, like FontRenderer does.
+	 */
+	void drawString(FontRenderer font, String text, int x, int y, int color, boolean shadow);
+	
+	/**
+	 * Draws a string with an outline around it.
+	 */
+	void drawOutlinedString(FontRenderer font, String text, int x, int y, int color, boolean invertedOutline);
+	
+	/**
+	 * Draws a tooltip.
+	 */
+	void drawHoveringText(List<String> lines, int x, int y, FontRenderer font);
+	
+	/**
+	 * Sets the color textured rects are tinted with. Components are each expected to set this before drawing anything textured.
+	 */
+	void color(float r, float g, float b, float a);
+	
+	void pushMatrix();
+	
+	void popMatrix();
+	
+	void translate(float x, float y, float z);
+	
+	void scale(float x, float y, float z);
+	
+	void rotate(float angle, float x, float y, float z);
+	
+	/**
+	 * Turns blending on or off.
+	 */
+	void setBlend(boolean blend);
+	
+	/**
+	 * Sets the blend function, with the same factors as <code>glBlendFunc</code>.
+	 */
+	void blendFunc(int sfactor, int dfactor);
+	
+	/**
+	 * Turns the scissor test on or off.
+	 */
+	void setScissor(boolean scissor);
+	
+	/**
+	 * Sets the scissor box, in window pixels from the bottom left, like <code>glScissor</code>.
+	 */
+	void scissor(int x, int y, int width, int height);
+	
+	/**
+	 * Saves the scissor box and whether the scissor test is on, so a component can change them and put them back afterward.
+	 */
+	void pushScissor();
+	
+	/**
+	 * Restores the scissor state saved by the matching {@link #pushScissor()}.
+	 */
+	void popScissor();
+	
+	/**
+	 * Clears the whole screen to the passed RGB color.
+	 */
+	void clear(int color);
+	
+	/**
+	 * Draws anything the renderer has been holding on to, and makes sure the GL matrix is where the renderer's is. Has to be called before
+	 * anything draws straight to GL instead of through the renderer, and at the end of every frame.
+	 */
+	void flush();
+}
@@ -0,0 +1,399 @@
+package gminers.glasspane.render;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.util.ResourceLocation;
+
+
+/**
+ * A renderer that doesn't draw anything, and instead records every call made to it into a compact buffer. Doesn't need a GL context, so
+ * rendering code can be run on a machine without a GPU, and the number of draw calls and state changes a frame makes can be counted.<br/>
+ * Commands are stored as an opcode followed by it's arguments in a single int array, with floats stored as their raw bits. Strings,
+ * textures, and font renderers go in a separate object array, and the int array stores their index. A recording can be
+ * {@link #replay(PaneRenderer) replayed} into another renderer.
+ */
+public class RecordingPaneRenderer
+		implements PaneRenderer {
+	public static final int RECT = 0;
+	public static final int GRADIENT_RECT = 1;
+	public static final int HORZ_GRADIENT_RECT = 2;
+	public static final int TEXTURED_RECT = 3;
+	public static final int STRING = 4;
+	public static final int OUTLINED_STRING = 5;
+	public static final int HOVERING_TEXT = 6;
+	// everything from here on is a state change, not a draw
+	public static final int BIND_TEXTURE = 7;
+	public static final int COLOR = 8;
+	public static final int PUSH_MATRIX = 9;
+	public static final int POP_MATRIX = 10;
+	public static final int TRANSLATE = 11;
+	public static final int SCALE = 12;
+	public static final int ROTATE = 13;
+	public static final int BLEND = 14;
+	public static final int BLEND_FUNC = 15;
+	public static final int SCISSOR_TEST = 16;
+	public static final int SCISSOR = 17;
+	public static final int PUSH_SCISSOR = 18;
+	public static final int POP_SCISSOR = 19;
+	public static final int CLEAR = 20;
+	public static final int FLUSH = 21;
+	private static final int OPCODES = 22;
+	/**
+	 * The number of ints following each opcode.
+	 */
+	private static final int[] ARGS = {
+			5, 6, 6, 6, 6, 6, 4, 1, 4, 0, 0, 3, 3, 4, 1, 2, 1, 4, 0, 0, 1, 0
+	};
+	
+	private int[] buf = new int[256];
+	private int size = 0;
+	private Object[] refs = new Object[16];
+	private int refCount = 0;
+	private final int[] counts = new int[OPCODES];
+	/**
+	 * The number of commands recorded since the last {@link #reset()}.
+	 */
+	@Getter private int commandCount = 0;
+	
+	/**
+	 * Throws away everything recorded so far. The buffers are kept, so recording the same frame again doesn't allocate.
+	 */
+	public void reset() {
+		size = 0;
+		Arrays.fill(refs, 0, refCount, null);
+		refCount = 0;
+		Arrays.fill(counts, 0);
+		commandCount = 0;
+	}
+	
+	/**
+	 * @return The number of times the passed command was recorded since the last {@link #reset()}.
+	 */
+	public int getCount(final int opcode) {
+		return counts[opcode];
+	}
+	
+	/**
+	 * @return The number of draw commands recorded since the last {@link #reset()}.
+	 */
+	public int getDrawCalls() {
+		int total = 0;
+		for (int i = 0; i < BIND_TEXTURE; i++) {
+			total += counts[i];
+		}
+		return total;
+	}
+	
+	/**
+	 * @return The number of state changes recorded since the last {@link #reset()}.
+	 */
+	public int getStateChanges() {
+		return commandCount - getDrawCalls();
+	}
+	
+	/**
+	 * @return The number of ints the recording takes up.
+	 */
+	public int getSize() {
+		return size;
+	}
+	
+	/**
+	 * Makes every recorded call, in order, on the passed renderer.
+	 */
+	public void replay(final PaneRenderer r) {
+		int i = 0;
+		while (i < size) {
+			final int op = buf[i++];
+			switch (op) {
+				case RECT:
+					r.drawRect(buf[i], buf[i + 1], buf[i + 2], buf[i + 3], buf[i + 4]);
+					break;
+				case GRADIENT_RECT:
+					r.drawGradientRect(buf[i], buf[i + 1], buf[i + 2], buf[i + 3], buf[i + 4], buf[i + 5]);
+					break;
+				case HORZ_GRADIENT_RECT:
+					r.drawHorzGradientRect(buf[i], buf[i + 1], buf[i + 2], buf[i + 3], buf[i + 4], buf[i + 5]);
+					break;
+				case TEXTURED_RECT:
+					r.drawTexturedRect(buf[i], buf[i + 1], buf[i + 2], buf[i + 3], buf[i + 4], buf[i + 5]);
+					break;
+				case STRING:
+					r.drawString((FontRenderer) refs[buf[i]], (String) refs[buf[i + 1]], buf[i + 2], buf[i + 3], buf[i + 4],
+							buf[i + 5] != 0);
+					break;
+				case OUTLINED_STRING:
+					r.drawOutlinedString((FontRenderer) refs[buf[i]], (String) refs[buf[i + 1]], buf[i + 2], buf[i + 3],
+							buf[i + 4], buf[i + 5] != 0);
+					break;
+				case HOVERING_TEXT:
+					r.drawHoveringText(lines(refs[buf[i]]), buf[i + 1], buf[i + 2], (FontRenderer) refs[buf[i + 3]]);
+					break;
+				case BIND_TEXTURE:
+					r.bindTexture((ResourceLocation) refs[buf[i]]);
+					break;
+				case COLOR:
+					r.color(fromBits(buf[i]), fromBits(buf[i + 1]), fromBits(buf[i + 2]), fromBits(buf[i + 3]));
+					break;
+				case PUSH_MATRIX:
+					r.pushMatrix();
+					break;
+				case POP_MATRIX:
+					r.popMatrix();
+					break;
+				case TRANSLATE:
+					r.translate(fromBits(buf[i]), fromBits(buf[i + 1]), fromBits(buf[i + 2]));
+					break;
+				case SCALE:
+					r.scale(fromBits(buf[i]), fromBits(buf[i + 1]), fromBits(buf[i + 2]));
+					break;
+				case ROTATE:
+					r.rotate(fromBits(buf[i]), fromBits(buf[i + 1]), fromBits(buf[i + 2]), fromBits(buf[i + 3]));
+					break;
+				case BLEND:
+					r.setBlend(buf[i] != 0);
+					break;
+				case BLEND_FUNC:
+					r.blendFunc(buf[i], buf[i + 1]);
+					break;
+				case SCISSOR_TEST:
+					r.setScissor(buf[i] != 0);
+					break;
+				case SCISSOR:
+					r.scissor(buf[i], buf[i + 1], buf[i + 2], buf[i + 3]);
+					break;
+				case PUSH_SCISSOR:
+					r.pushScissor();
+					break;
+				case POP_SCISSOR:
+					r.popScissor();
+					break;
+				case CLEAR:
+					r.clear(buf[i]);
+					break;
+				case FLUSH:
+					r.flush();
+					break;
+				default:
+					throw new IllegalStateException("Corrupt recording, unknown opcode " + op + " at " + (i - 1));
+			}
+			i += ARGS[op];
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static List<String> lines(final Object o) {
+		return (List<String>) o;
+	}
+	
+	private static float fromBits(final int bits) {
+		return Float.intBitsToFloat(bits);
+	}
+	
+	private static int toBits(final float f) {
+		return Float.floatToRawIntBits(f);
+	}
+	
+	private static int b(final boolean b) {
+		return b ? 1 : 0;
+	}
+	
+	private int ref(final Object o) {
+		if (refCount == refs.length) {
+			refs = Arrays.copyOf(refs, refCount * 2);
+		}
+		refs[refCount] = o;
+		return refCount++;
+	}
+	
+	private void op(final int op) {
+		final int needed = size + 1 + ARGS[op];
+		if (needed > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(needed, buf.length * 2));
+		}
+		buf[size++] = op;
+		counts[op]++;
+		commandCount++;
+	}
+	
+	@Override
+	public void drawRect(final int left, final int top, final int right, final int bottom, final int color) {
+		op(RECT);
+		buf[size++] = left;
+		buf[size++] = top;
+		buf[size++] = right;
+		buf[size++] = bottom;
+		buf[size++] = color;
+	}
+	
+	@Override
+	public void drawGradientRect(final int left, final int top, final int right, final int bottom, final int topColor,
+			final int bottomColor) {
+		op(GRADIENT_RECT);
+		buf[size++] = left;
+		buf[size++] = top;
+		buf[size++] = right;
+		buf[size++] = bottom;
+		buf[size++] = topColor;
+		buf[size++] = bottomColor;
+	}
+	
+	@Override
+	public void drawHorzGradientRect(final int left, final int top, final int right, final int bottom, final int leftColor,
+			final int rightColor) {
+		op(HORZ_GRADIENT_RECT);
+		buf[size++] = left;
+		buf[size++] = top;
+		buf[size++] = right;
+		buf[size++] = bottom;
+		buf[size++] = leftColor;
+		buf[size++] = rightColor;
+	}
+	
+	@Override
+	public void bindTexture(final ResourceLocation texture) {
+		op(BIND_TEXTURE);
+		buf[size++] = ref(texture);
+	}
+	
+	@Override
+	public void drawTexturedRect(final int x, final int y, final int u, final int v, final int width, final int height) {
+		op(TEXTURED_RECT);
+		buf[size++] = x;
+		buf[size++] = y;
+		buf[size++] = u;
+		buf[size++] = v;
+		buf[size++] = width;
+		buf[size++] = height;
+	}
+	
+	@Override
+	public void drawString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean shadow) {
+		op(STRING);
+		buf[size++] = ref(font);
+		buf[size++] = ref(text);
+		buf[size++] = x;
+		buf[size++] = y;
+		buf[size++] = color;
+		buf[size++] = b(shadow);
+	}
+	
+	@Override
+	public void drawOutlinedString(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean invertedOutline) {
+		op(OUTLINED_STRING);
+		buf[size++] = ref(font);
+		buf[size++] = ref(text);
+		buf[size++] = x;
+		buf[size++] = y;
+		buf[size++] = color;
+		buf[size++] = b(invertedOutline);
+	}
+	
+	@Override
+	public void drawHoveringText(final List<String> lines, final int x, final int y, final FontRenderer font) {
+		op(HOVERING_TEXT);
+		buf[size++] = ref(lines);
+		buf[size++] = x;
+		buf[size++] = y;
+		buf[size++] = ref(font);
+	}
+	
+	@Override
+	public void color(final float r, final float g, final float b, final float a) {
+		op(COLOR);
+		buf[size++] = toBits(r);
+		buf[size++] = toBits(g);
+		buf[size++] = toBits(b);
+		buf[size++] = toBits(a);
+	}
+	
+	@Override
+	public void pushMatrix() {
+		op(PUSH_MATRIX);
+	}
+	
+	@Override
+	public void popMatrix() {
+		op(POP_MATRIX);
+	}
+	
+	@Override
+	public void translate(final float x, final float y, final float z) {
+		op(TRANSLATE);
+		buf[size++] = toBits(x);
+		buf[size++] = toBits(y);
+		buf[size++] = toBits(z);
+	}
+	
+	@Override
+	public void scale(final float x, final float y, final float z) {
+		op(SCALE);
+		buf[size++] = toBits(x);
+		buf[size++] = toBits(y);
+		buf[size++] = toBits(z);
+	}
+	
+	@Override
+	public void rotate(final float angle, final float x, final float y, final float z) {
+		op(ROTATE);
+		buf[size++] = toBits(angle);
+		buf[size++] = toBits(x);
+		buf[size++] = toBits(y);
+		buf[size++] = toBits(z);
+	}
+	
+	@Override
+	public void setBlend(final boolean blend) {
+		op(BLEND);
+		buf[size++] = b(blend);
+	}
+	
+	@Override
+	public void blendFunc(final int sfactor, final int dfactor) {
+		op(BLEND_FUNC);
+		buf[size++] = sfactor;
+		buf[size++] = dfactor;
+	}
+	
+	@Override
+	public void setScissor(final boolean scissor) {
+		op(SCISSOR_TEST);
+		buf[size++] = b(scissor);
+	}
+	
+	@Override
+	public void scissor(final int x, final int y, final int width, final int height) {
+		op(SCISSOR);
+		buf[size++] = x;
+		buf[size++] = y;
+		buf[size++] = width;
+		buf[size++] = height;
+	}
+	
+	@Override
+	public void pushScissor() {
+		op(PUSH_SCISSOR);
+	}
+	
+	@Override
+	public void popScissor() {
+		op(POP_SCISSOR);
+	}
+	
+	@Override
+	public void clear(final int color) {
+		op(CLEAR);
+		buf[size++] = color;
+	}
+	
+	@Override
+	public void flush() {
+		op(FLUSH);
+	}
+}
@@ -0,0 +1,32 @@
+package gminers.glasspane.render;
+
+
+import lombok.Getter;
+import lombok.NonNull;
+
+
+/**
+ * Holds the {@link PaneRenderer} that components currently draw through. Defaults to a {@link BatchingPaneRenderer}, which draws to GL
+ * in as few draw calls as it can. Set it to a {@link GLPaneRenderer} to draw everything immediately, like Glass Pane used to.
+ */
+public final class RenderBackend {
+	/**
+	 * The renderer components draw through.
+	 */
+	@Getter private static PaneRenderer renderer = new BatchingPaneRenderer();
+	
+	private RenderBackend() {}
+	
+	/**
+	 * Sets the renderer components draw through. Only change this between frames.
+	 * 
+	 * @return The renderer that was being used before, so it can be put back.
+	 */
+	public static PaneRenderer setRenderer(final @NonNull PaneRenderer renderer) {
+		final PaneRenderer old = RenderBackend.renderer;
+		// don't lose anything the old one was holding on to
+		old.flush();
+		RenderBackend.renderer = renderer;
+		return old;
+	}
+}
@@ -0,0 +1,138 @@
+package gminers.glasspane.render;
+
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import lombok.Getter;
+import net.minecraft.client.renderer.GlStateManager;
+
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * A display list that something is drawn into once, and then replayed every frame until it changes. Used by containers with
+ * {@link gminers.glasspane.component.PaneContainer#setCacheRendering(boolean) cacheRendering} on.<br/>
+ * Everything drawn while recording goes through a {@link BatchingPaneRenderer detached batcher}, so the list only ever moves the GL
+ * matrix relative to where it is, and can be replayed under a different matrix than it was recorded with.
+ */
+public final class RenderCache {
+	// lists whose caches were garbage collected - they have to be deleted on the render thread
+	private static final Queue<Integer> orphans = new ConcurrentLinkedQueue<Integer>();
+	private static int recording = 0;
+	
+	private final BatchingPaneRenderer renderer = new BatchingPaneRenderer(true);
+	private int list = 0;
+	// the texture the list leaves bound, so Minecraft's idea of what's bound can be put right after replaying it
+	private int texture = 0;
+	private PaneRenderer previous = null;
+	/**
+	 * Whether or not there's a recording to replay.
+	 */
+	@Getter private boolean valid = false;
+	/**
+	 * The number of times this cache has been recorded.
+	 */
+	@Getter private int recordCount = 0;
+	
+	/**
+	 * @return <code>true</code> if any cache is being recorded right now. Display lists can't be nested, so anything that would start
+	 *         recording has to just draw normally instead.
+	 */
+	public static boolean isRecordingAny() {
+		return recording > 0;
+	}
+	
+	/**
+	 * Starts recording. Everything drawn through the {@link RenderBackend} until {@link #end()} goes into this cache, and is drawn at
+	 * the same time.
+	 * 
+	 * @return <code>false</code> if recording couldn't start, in which case {@link #end()} must not be called.
+	 */
+	public boolean begin() {
+		if (recording > 0) return false;
+		Integer orphan;
+		while ((orphan = orphans.poll()) != null) {
+			GL11.glDeleteLists(orphan, 1);
+		}
+		if (list == 0) {
+			list = GL11.glGenLists(1);
+			if (list == 0) return false;
+		}
+		// flush whatever was drawn before us, so it doesn't end up in the list
+		RenderBackend.getRenderer().flush();
+		// Minecraft skips binds and colors it thinks are already set, and a skipped one never makes it into the list - so make it
+		// forget, and everything drawn sets it's own state inside the list
+		GlStateManager.bindTexture(0);
+		GlStateManager.resetColor();
+		// compile and execute, so the first frame doesn't have to wait for the list
+		GL11.glNewList(list, GL11.GL_COMPILE_AND_EXECUTE);
+		previous = RenderBackend.setRenderer(renderer);
+		recording++;
+		return true;
+	}
+	
+	/**
+	 * Finishes recording.
+	 */
+	public void end() {
+		// this flushes our renderer into the list
+		RenderBackend.setRenderer(previous);
+		GL11.glEndList();
+		texture = GL11.glGetInteger(GL11.GL_TEXTURE_BINDING_2D);
+		GlStateManager.resetColor();
+		forgetState(previous);
+		previous = null;
+		recording--;
+		valid = true;
+		recordCount++;
+	}
+	
+	/**
+	 * Draws what was recorded.
+	 */
+	public void replay() {
+		if (!valid) return;
+		RenderBackend.getRenderer().flush();
+		GL11.glCallList(list);
+		// the list changed these behind Minecraft's back, and behind the renderer's
+		GlStateManager.resetColor();
+		GlStateManager.bindTexture(texture);
+		forgetState(RenderBackend.getRenderer());
+	}
+	
+	private static void forgetState(final PaneRenderer r) {
+		if (r instanceof BatchingPaneRenderer) {
+			((BatchingPaneRenderer) r).forget();
+		}
+	}
+	
+	/**
+	 * Marks the recording as out of date, so it won't be replayed until it's recorded again.
+	 */
+	public void invalidate() {
+		valid = false;
+	}
+	
+	/**
+	 * Deletes the display list. The cache can still be used afterward, and will make a new one.
+	 */
+	public void free() {
+		if (list != 0) {
+			GL11.glDeleteLists(list, 1);
+			list = 0;
+		}
+		valid = false;
+	}
+	
+	@Override
+	protected void finalize() throws Throwable {
+		try {
+			if (list != 0) {
+				orphans.add(list);
+			}
+		} finally {
+			super.finalize();
+		}
+	}
+}
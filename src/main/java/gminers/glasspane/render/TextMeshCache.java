@@ -0,0 +1,244 @@
+package gminers.glasspane.render;
+
+
+import gminers.kitchensink.Rendering;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.client.resources.IResourceManagerReloadListener;
+
+import org.lwjgl.opengl.GL11;
+
+
+/**
+ * Keeps finished strings around as display lists, so a string that's drawn every frame - especially an outlined one, which is drawn
+ * several times over for the outline - only has it's glyphs worked out once. The {@link GLPaneRenderer} draws strings through here when
+ * it's {@link #setEnabled(boolean) enabled}, which it isn't by default.<br/>
+ * Every distinct font, text, color, shadow, and outline is it's own entry. When the entries add up to more than the
+ * {@link #setBudget(int) budget}, the ones that were drawn least recently are thrown away. The memory an entry takes is an estimate,
+ * since GL doesn't say how big a display list is.<br/>
+ * Obfuscated (&sect;k) text is never cached, since it's supposed to look different every time it's drawn. The cache empties itself
+ * when resource packs are reloaded.<br/>
+ * Strings drawn while a {@link RenderCache} is recording are drawn normally, since display lists can't be made inside each other, and a
+ * recording that called one of ours would break when it's evicted.
+ */
+public final class TextMeshCache {
+	/**
+	 * The budget the cache starts out with, in bytes.
+	 */
+	public static final int DEFAULT_BUDGET = 4 * 1024 * 1024;
+	// a glyph is a quad, and every vertex has a 3 float position and a 2 float UV
+	private static final int BYTES_PER_GLYPH = 4 * (3 + 2) * 4;
+	// outlines are drawn as copies of the string offset all around it, with the string itself on top
+	private static final int OUTLINE_PASSES = 9;
+	// what GL keeps around for every list, on top of the vertices
+	private static final int BYTES_PER_ENTRY = 64;
+	
+	private static final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(64, 0.75f, true);
+	// looked up with, so a hit doesn't allocate
+	private static final Key probe = new Key();
+	private static boolean listening = false;
+	// set when resource packs change, and the font's textures and glyph widths might have too
+	private static boolean stale = false;
+	/**
+	 * Whether or not strings are drawn from the cache.
+	 */
+	@Getter @Setter private static boolean enabled = false;
+	/**
+	 * The most memory the cache will hold on to, in bytes.
+	 */
+	@Getter private static int budget = DEFAULT_BUDGET;
+	/**
+	 * About how much memory the cache is holding on to right now, in bytes.
+	 */
+	@Getter private static int usedBytes = 0;
+	/**
+	 * The number of strings that were drawn from the cache.
+	 */
+	@Getter private static int hitCount = 0;
+	/**
+	 * The number of strings that had to be added to the cache.
+	 */
+	@Getter private static int missCount = 0;
+	/**
+	 * The number of entries thrown away to make room for new ones.
+	 */
+	@Getter private static int evictionCount = 0;
+	
+	private TextMeshCache() {}
+	
+	private static final class Key {
+		FontRenderer font;
+		String text;
+		int color;
+		boolean shadow;
+		boolean outlined;
+		boolean invertedOutline;
+		int hash;
+		
+		Key set(final FontRenderer font, final String text, final int color, final boolean shadow, final boolean outlined,
+				final boolean invertedOutline) {
+			this.font = font;
+			this.text = text;
+			this.color = color;
+			this.shadow = shadow;
+			this.outlined = outlined;
+			this.invertedOutline = invertedOutline;
+			int h = System.identityHashCode(font);
+			h = h * 31 + text.hashCode();
+			h = h * 31 + color;
+			h = h * 31 + (shadow ? 1 : 0);
+			h = h * 31 + (outlined ? 1 : 0);
+			h = h * 31 + (invertedOutline ? 1 : 0);
+			hash = h;
+			return this;
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Key)) return false;
+			final Key k = (Key) o;
+			return hash == k.hash && font == k.font && color == k.color && shadow == k.shadow && outlined == k.outlined
+					&& invertedOutline == k.invertedOutline && text.equals(k.text);
+		}
+	}
+	
+	private static final class Entry {
+		int list;
+		int bytes;
+		// the texture the list leaves bound, so Minecraft's idea of what's bound can be put right afterward
+		int texture;
+	}
+	
+	/**
+	 * Sets the most memory the cache will hold on to, in bytes, and throws away whatever doesn't fit anymore.
+	 */
+	public static void setBudget(final int budget) {
+		TextMeshCache.budget = budget;
+		evict(0);
+	}
+	
+	/**
+	 * @return The number of strings in the cache.
+	 */
+	public static int getSize() {
+		return entries.size();
+	}
+	
+	/**
+	 * Draws a string from the cache, adding it first if it isn't there yet. The GL matrix has to already be where the string goes.
+	 * 
+	 * @return <code>false</code> if the string can't be drawn from the cache right now, and has to be drawn normally.
+	 */
+	public static boolean draw(final FontRenderer font, final String text, final int x, final int y, final int color,
+			final boolean shadow, final boolean outlined, final boolean invertedOutline) {
+		if (!enabled || text.isEmpty() || RenderCache.isRecordingAny()) return false;
+		// obfuscated text picks new glyphs every time it's drawn, so a list of it would freeze it
+		if (isObfuscated(text)) return false;
+		if (!listening) {
+			((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager())
+					.registerReloadListener(new IResourceManagerReloadListener() {
+						@Override
+						public void onResourceManagerReload(final IResourceManager resourceManager) {
+							stale = true;
+						}
+					});
+			listening = true;
+		}
+		if (stale) {
+			clear();
+			stale = false;
+		}
+		Entry e = entries.get(probe.set(font, text, color, shadow, outlined, invertedOutline));
+		probe.font = null;
+		probe.text = null;
+		if (e == null) {
+			final int bytes = BYTES_PER_ENTRY + text.length() * BYTES_PER_GLYPH * (outlined ? OUTLINE_PASSES : 1)
+					* (shadow ? 2 : 1);
+			if (bytes > budget) return false;
+			evict(bytes);
+			final int list = GL11.glGenLists(1);
+			if (list == 0) return false;
+			e = new Entry();
+			e.list = list;
+			e.bytes = bytes;
+			// make Minecraft forget what it thinks is bound and what color is set, so the list binds and sets them itself
+			GlStateManager.bindTexture(0);
+			GlStateManager.resetColor();
+			GL11.glPushMatrix();
+			GL11.glTranslatef(x, y, 0);
+			// compile and execute, same as RenderCache, so the first draw doesn't have to wait for the list
+			GL11.glNewList(list, GL11.GL_COMPILE_AND_EXECUTE);
+			if (outlined) {
+				Rendering.drawOutlinedString(font, text, 0, 0, color, invertedOutline);
+			} else {
+				font.drawString(text, 0, 0, color, shadow);
+			}
+			GL11.glEndList();
+			GL11.glPopMatrix();
+			e.texture = GL11.glGetInteger(GL11.GL_TEXTURE_BINDING_2D);
+			entries.put(new Key().set(font, text, color, shadow, outlined, invertedOutline), e);
+			usedBytes += bytes;
+			missCount++;
+			return true;
+		}
+		GL11.glPushMatrix();
+		GL11.glTranslatef(x, y, 0);
+		GL11.glCallList(e.list);
+		GL11.glPopMatrix();
+		// the list changed these behind Minecraft's back
+		GlStateManager.resetColor();
+		GlStateManager.bindTexture(e.texture);
+		hitCount++;
+		return true;
+	}
+	
+	private static boolean isObfuscated(final String text) {
+		int i = text.indexOf('\u00A7');
+		while (i != -1 && i + 1 < text.length()) {
+			final char c = text.charAt(i + 1);
+			if (c == 'k' || c == 'K') return true;
+			i = text.indexOf('\u00A7', i + 2);
+		}
+		return false;
+	}
+	
+	/**
+	 * Throws away everything in the cache.
+	 */
+	public static void clear() {
+		for (final Entry e : entries.values()) {
+			GL11.glDeleteLists(e.list, 1);
+		}
+		entries.clear();
+		usedBytes = 0;
+	}
+	
+	/**
+	 * Throws away the least recently drawn entries until there's room for the passed number of bytes.
+	 */
+	private static void evict(final int room) {
+		final Iterator<Entry> iter = entries.values().iterator();
+		while (usedBytes + room > budget && iter.hasNext()) {
+			final Entry e = iter.next();
+			GL11.glDeleteLists(e.list, 1);
+			usedBytes -= e.bytes;
+			iter.remove();
+			evictionCount++;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package gminers.glasspane.render;
+
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.client.renderer.texture.TextureUtil;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.client.resources.IResourceManagerReloadListener;
+import net.minecraft.util.ResourceLocation;
+
+import com.gameminers.glasspane.internal.GlassPaneMod;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+
+/**
+ * Packs small GUI images into a few big shared textures, so that drawing a screen full of different components doesn't have to keep
+ * binding different textures. The {@link BatchingPaneRenderer} looks up every texture it's asked to bind here, and if it's been packed,
+ * binds the page it's on instead and moves the UVs of everything drawn with it onto the page.<br/>
+ * Glass Pane's own widget sheet is always packed. Anything else has to be {@link #register(ResourceLocation) registered} first - only
+ * register images that are drawn within their own bounds, since a packed image can't be tiled by drawing past it's edges.<br/>
+ * The pages are built the first time they're needed, and rebuilt whenever something new is registered or resource packs change.
+ */
+public final class TextureAtlas {
+	/**
+	 * The width and height of every page, in pixels.
+	 */
+	public static final int PAGE_SIZE = 1024;
+	/**
+	 * How many pixels of the image's own edge are copied around every packed image, so filtering and mipmapping pull in the image's
+	 * edge instead of whatever's packed next to it.
+	 */
+	public static final int PADDING = 1;
+	
+	private static final Set<ResourceLocation> registered = Sets.newLinkedHashSet();
+	private static final Map<ResourceLocation, Region> regions = Maps.newHashMap();
+	private static final List<ResourceLocation> pages = Lists.newArrayList();
+	private static boolean dirty = true;
+	/**
+	 * Goes up every time the pages are thrown away. Anything that holds on to a page (like a {@link RenderCache}) should check it.
+	 */
+	@Getter private static int generation = 0;
+	private static boolean listening = false;
+	
+	static {
+		register(new ResourceLocation("glasspane", "wadjets.png"));
+	}
+	
+	private TextureAtlas() {}
+	
+	/**
+	 * A packed image's place on a page.
+	 */
+	@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+	@Getter
+	@ToString
+	public static final class Region {
+		/**
+		 * The page the image is on.
+		 */
+		ResourceLocation page;
+		/**
+		 * Where the image starts on the page, in pixels.
+		 */
+		int x, y;
+		/**
+		 * The real size of the image, in pixels.
+		 */
+		int width, height;
+		
+		private Region(final ResourceLocation page, final int x, final int y, final int width, final int height) {
+			this.page = page;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+		
+		/**
+		 * Moves a U coordinate in texels of the original image (where the whole image is 256 wide, like every other GUI texture) onto
+		 * the page.
+		 */
+		public float u(final float texel) {
+			return (x + texel * width / 256f) / PAGE_SIZE;
+		}
+		
+		/**
+		 * Moves a V coordinate in texels of the original image onto the page.
+		 */
+		public float v(final float texel) {
+			return (y + texel * height / 256f) / PAGE_SIZE;
+		}
+	}
+	
+	/**
+	 * Adds an image to the atlas. It'll be on a page next time one is bound.
+	 * 
+	 * @param image
+	 *            The image to pack. Must fit on a {@link #PAGE_SIZE} page with {@link #PADDING} on every side.
+	 */
+	public static void register(final @NonNull ResourceLocation image) {
+		if (registered.add(image)) {
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Removes an image from the atlas. It'll be drawn from it's own texture again.
+	 */
+	public static void unregister(final ResourceLocation image) {
+		if (registered.remove(image)) {
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Throws the pages away, so they'll be built again from scratch next time one's needed.
+	 */
+	public static void invalidate() {
+		dirty = true;
+		generation++;
+	}
+	
+	/**
+	 * @return The number of pages the atlas is using right now.
+	 */
+	public static int getPageCount() {
+		return pages.size();
+	}
+	
+	static boolean isDirty() {
+		return dirty;
+	}
+	
+	/**
+	 * Finds where the passed image was packed.
+	 * 
+	 * @return The image's region, or <code>null</code> if it isn't in the atlas.
+	 */
+	public static Region get(final ResourceLocation image) {
+		if (dirty) {
+			build();
+		}
+		return regions.get(image);
+	}
+	
+	private static void build() {
+		dirty = false;
+		final Minecraft mc = Minecraft.getMinecraft();
+		if (!listening) {
+			// resource packs can swap any of our images out from under us
+			((IReloadableResourceManager) mc.getResourceManager()).registerReloadListener(new IResourceManagerReloadListener() {
+				@Override
+				public void onResourceManagerReload(final IResourceManager resourceManager) {
+					invalidate();
+				}
+			});
+			listening = true;
+		}
+		for (final ResourceLocation page : pages) {
+			mc.getTextureManager().deleteTexture(page);
+		}
+		pages.clear();
+		regions.clear();
+		// load everything first, so we can pack the tallest images first
+		final List<ResourceLocation> names = Lists.newArrayList();
+		final Map<ResourceLocation, BufferedImage> images = Maps.newHashMap();
+		for (final ResourceLocation loc : registered) {
+			final BufferedImage img = load(mc, loc);
+			if (img == null) {
+				continue;
+			}
+			if (img.getWidth() + PADDING * 2 > PAGE_SIZE || img.getHeight() + PADDING * 2 > PAGE_SIZE) {
+				GlassPaneMod.inst.getLog().warn(
+						"[GlassPane] [Atlas] " + loc + " is bigger than an atlas page (" + img.getWidth() + "x" + img.getHeight()
+								+ "), it will be drawn from it's own texture");
+				continue;
+			}
+			names.add(loc);
+			images.put(loc, img);
+		}
+		Collections.sort(names, new Comparator<ResourceLocation>() {
+			@Override
+			public int compare(final ResourceLocation a, final ResourceLocation b) {
+				return images.get(b).getHeight() - images.get(a).getHeight();
+			}
+		});
+		// simple shelf packing - the images are all GUI sheets, which are mostly the same size anyway
+		BufferedImage page = null;
+		ResourceLocation pageLoc = null;
+		final List<ResourceLocation> onPage = Lists.newArrayList();
+		int x = 0, y = 0, shelf = 0;
+		for (final ResourceLocation loc : names) {
+			final BufferedImage img = images.get(loc);
+			final int paddedWidth = img.getWidth() + PADDING * 2;
+			final int paddedHeight = img.getHeight() + PADDING * 2;
+			if (page != null && x + paddedWidth > PAGE_SIZE) {
+				x = 0;
+				y += shelf;
+				shelf = 0;
+			}
+			if (page == null || y + paddedHeight > PAGE_SIZE) {
+				if (page != null) {
+					upload(mc, page, pageLoc, onPage);
+				}
+				page = new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+				pageLoc = new ResourceLocation("glasspane", "atlas/" + pages.size());
+				pages.add(pageLoc);
+				onPage.clear();
+				x = 0;
+				y = 0;
+				shelf = 0;
+			}
+			page.setRGB(x, y, paddedWidth, paddedHeight, pad(img), 0, paddedWidth);
+			regions.put(loc, new Region(pageLoc, x + PADDING, y + PADDING, img.getWidth(), img.getHeight()));
+			onPage.add(loc);
+			x += paddedWidth;
+			shelf = Math.max(shelf, paddedHeight);
+		}
+		if (page != null) {
+			upload(mc, page, pageLoc, onPage);
+		}
+	}
+	
+	/**
+	 * @return The pixels of the passed image with {@link #PADDING} pixels around it, each a copy of the closest pixel on the image's edge
+	 *         (so the corners get the corner pixel).
+	 */
+	private static int[] pad(final BufferedImage img) {
+		final int width = img.getWidth();
+		final int height = img.getHeight();
+		final int paddedWidth = width + PADDING * 2;
+		final int paddedHeight = height + PADDING * 2;
+		final int[] argb = img.getRGB(0, 0, width, height, null, 0, width);
+		final int[] padded = new int[paddedWidth * paddedHeight];
+		for (int py = 0; py < paddedHeight; py++) {
+			final int sy = Math.min(Math.max(py - PADDING, 0), height - 1);
+			for (int px = 0; px < paddedWidth; px++) {
+				final int sx = Math.min(Math.max(px - PADDING, 0), width - 1);
+				padded[py * paddedWidth + px] = argb[sy * width + sx];
+			}
+		}
+		return padded;
+	}
+	
+	private static BufferedImage load(final Minecraft mc, final ResourceLocation loc) {
+		InputStream in = null;
+		try {
+			in = mc.getResourceManager().getResource(loc).getInputStream();
+			return TextureUtil.readBufferedImage(in);
+		} catch (final IOException e) {
+			GlassPaneMod.inst.getLog().warn(
+					"[GlassPane] [Atlas] Could not load " + loc + " (" + e + "), it will be drawn from it's own texture");
+			return null;
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (final IOException e) {}
+			}
+		}
+	}
+	
+	private static void upload(final Minecraft mc, final BufferedImage page, final ResourceLocation loc,
+			final List<ResourceLocation> onPage) {
+		mc.getTextureManager().loadTexture(loc, new DynamicTexture(page));
+		GlassPaneMod.inst.getLog().debug("[GlassPane] [Atlas] Built " + loc + " with " + onPage);
+	}
+}
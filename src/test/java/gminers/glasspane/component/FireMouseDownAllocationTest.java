@@ -0,0 +1,65 @@
+package gminers.glasspane.component;
+
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+
+/**
+ * Fires mouse downs through a small component tree that nobody's listening to, and makes sure it doesn't allocate anything.
+ */
+public class FireMouseDownAllocationTest {
+	private static final int WARMUP = 20000;
+	private static final int CLICKS = 100000;
+	// the allocation counter isn't exact, so leave it a little room. boxing or an event per click would be megabytes
+	private static final long ALLOWED_BYTES = 4096;
+	
+	private static class Container
+			extends PaneContainer {}
+	
+	private static class Leaf
+			extends PaneComponent {
+		@Override
+		protected void doRender(final int mouseX, final int mouseY, final float partialTicks) {}
+	}
+	
+	@Test
+	public void unlistenedMouseDownDoesntAllocate() {
+		final java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+		assumeTrue(mx instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) mx;
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+		
+		final Container root = new Container();
+		root.setWidth(200);
+		root.setHeight(200);
+		final Container inner = new Container();
+		inner.setX(50);
+		inner.setY(50);
+		inner.setWidth(100);
+		inner.setHeight(100);
+		root.add(inner);
+		final Leaf leaf = new Leaf();
+		leaf.setX(10);
+		leaf.setY(10);
+		leaf.setWidth(20);
+		leaf.setHeight(20);
+		inner.add(leaf);
+		
+		for (int i = 0; i < WARMUP; i++) {
+			root.fireMouseDown(65, 65, 0);
+		}
+		final long thread = Thread.currentThread().getId();
+		final long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < CLICKS; i++) {
+			root.fireMouseDown(65, 65, 0);
+		}
+		final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+		assertTrue(allocated + " bytes allocated over " + CLICKS + " mouse downs", allocated < ALLOWED_BYTES);
+	}
+}
@@ -0,0 +1,92 @@
+package gminers.glasspane.listener;
+
+
+import static org.junit.Assert.assertTrue;
+import gminers.glasspane.ease.PaneEaser;
+import gminers.glasspane.event.StateChangedEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+
+import org.junit.Test;
+
+import com.gameminers.glasspane.internal.GlassPaneMod;
+
+
+/**
+ * Opens and closes a lot of 'screens' that register weakly with a long-lived overlay's listeners and ease one of their components, and
+ * makes sure the heap doesn't grow with them.
+ */
+public class WeakRegistrationLeakTest {
+	private static final int SCREENS = 10000;
+	// screens are opened this many times before the heap is measured, so the caches are all warmed up
+	private static final int WARMUP = 500;
+	// each screen is a lot bigger than this, so even a small fraction of them leaking is enough to fail
+	private static final long ALLOWED_GROWTH = 8L * 1024 * 1024;
+	
+	public static class Box {
+		private double x = 0;
+		
+		public double getX() {
+			return x;
+		}
+		
+		public void setX(final double x) {
+			this.x = x;
+		}
+	}
+	
+	public static class Screen {
+		private final byte[] payload = new byte[16 * 1024];
+		private final Box box = new Box();
+		
+		@PaneEventHandler
+		public void onStateChanged(final StateChangedEvent e) {
+			payload[0]++;
+		}
+	}
+	
+	@Test
+	public void closedScreensDontAccumulate() {
+		final ListenerTable overlay = new ListenerTable();
+		long baseline = 0;
+		for (int i = 0; i < SCREENS; i++) {
+			openAndClose(overlay);
+			if (i == WARMUP) {
+				baseline = usedHeap(overlay);
+			}
+		}
+		final long growth = usedHeap(overlay) - baseline;
+		assertTrue("heap grew by " + growth + " bytes over " + (SCREENS - WARMUP) + " screens", growth < ALLOWED_GROWTH);
+		assertTrue("easers are still mapped for " + GlassPaneMod.easers.size() + " collected objects",
+				GlassPaneMod.easers.size() < SCREENS - WARMUP);
+	}
+	
+	private static void openAndClose(final ListenerTable overlay) {
+		final Screen screen = new Screen();
+		for (final ListenerMethod m : ListenerMethods.forClass(Screen.class)) {
+			overlay.add(screen, m, RegistrationMode.WEAK);
+		}
+		final PaneEaser easer = new PaneEaser(screen.box);
+		easer.easeDouble("x", 10);
+		// run the ease to the end, like it would be while the screen is open
+		for (int tick = 0; tick < 60; tick++) {
+			easer.onTick(Phase.START);
+			easer.onTick(Phase.END);
+		}
+		overlay.dispatch(StateChangedEvent.class, new StateChangedEvent(null));
+	}
+	
+	private static long usedHeap(final ListenerTable overlay) {
+		final Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// dead handlers are only dropped by the next dispatch
+			overlay.dispatch(StateChangedEvent.class, new StateChangedEvent(null));
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	}
+}